@@ -0,0 +1,73 @@
+package com.hologramx.benchmarks;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Minimal Bukkit Server and World stand-ins built from dynamic proxies, so benchmarks can
+ * exercise plugin code without a running server. Unhandled methods return null, zero or false.
+ */
+final class BukkitStubs {
+    
+    private static final Map<String, World> WORLDS = new HashMap<>();
+    
+    private BukkitStubs() {
+    }
+    
+    static synchronized World world(String name) {
+        return WORLDS.computeIfAbsent(name, BukkitStubs::createWorld);
+    }
+    
+    /**
+     * Installs a stub server whose getWorld resolves the worlds created through world(String)
+     */
+    static synchronized void installServer() {
+        if (Bukkit.getServer() != null) return;
+        
+        Logger logger = Logger.getLogger("BukkitStubs");
+        Server server = (Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[] { Server.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getLogger" -> logger;
+                case "getName", "getVersion", "getBukkitVersion" -> "stub";
+                case "getWorld" -> args[0] instanceof String name ? WORLDS.get(name) : null;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "StubServer";
+                default -> defaultValue(method.getReturnType());
+            });
+        Bukkit.setServer(server);
+    }
+    
+    private static World createWorld(String name) {
+        UUID uid = UUID.nameUUIDFromBytes(name.getBytes());
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[] { World.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getName" -> name;
+                case "getUID" -> uid;
+                case "isChunkLoaded" -> true;
+                case "hashCode" -> uid.hashCode();
+                case "equals" -> proxy == args[0];
+                case "toString" -> "StubWorld{" + name + "}";
+                default -> defaultValue(method.getReturnType());
+            });
+    }
+    
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0f;
+        if (type == double.class) return 0d;
+        if (type == int.class) return 0;
+        if (type == short.class) return (short) 0;
+        return (byte) 0;
+    }
+}
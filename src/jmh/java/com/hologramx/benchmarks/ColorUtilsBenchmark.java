@@ -0,0 +1,35 @@
+package com.hologramx.benchmarks;
+
+import com.hologramx.utils.ColorUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColorUtilsBenchmark {
+    
+    @Param({ "#FF8800", "#40000000", "rgb(64,128,255)", "dark_blue", "transparent" })
+    public String color;
+    
+    private String parsed;
+    
+    @Setup
+    public void setup() {
+        parsed = ColorUtils.parseColor(color);
+    }
+    
+    @Benchmark
+    public String parseColor() {
+        return ColorUtils.parseColor(color);
+    }
+    
+    @Benchmark
+    public int hexToARGB() {
+        return ColorUtils.hexToARGB(parsed);
+    }
+}
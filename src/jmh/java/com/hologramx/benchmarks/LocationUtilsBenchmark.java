@@ -0,0 +1,36 @@
+package com.hologramx.benchmarks;
+
+import com.hologramx.utils.LocationUtils;
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocationUtilsBenchmark {
+    
+    private Location location;
+    private String serialized;
+    
+    @Setup
+    public void setup() {
+        BukkitStubs.installServer();
+        location = new Location(BukkitStubs.world("world"), -3.5, 66.1165, 0.5, -90f, 0f);
+        serialized = LocationUtils.locationToString(location);
+    }
+    
+    @Benchmark
+    public String locationToString() {
+        return LocationUtils.locationToString(location);
+    }
+    
+    @Benchmark
+    public Location stringToLocation() {
+        return LocationUtils.stringToLocation(serialized);
+    }
+}
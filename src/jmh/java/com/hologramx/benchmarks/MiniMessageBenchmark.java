@@ -0,0 +1,39 @@
+package com.hologramx.benchmarks;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MiniMessage deserialization of single hologram lines, the work LineTemplate does when a line's text changes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MiniMessageBenchmark {
+    
+    @Param({
+        "<white>Balance: <gold>$1,234.56</gold></white>",
+        "<gradient:#FFD700:#FFA500><b>WELCOME, Notch!</b></gradient>",
+        "<gray>You have entered the</gray> <bold><gradient:red:dark_red>ANARCHY MINES</gradient></bold>",
+        "<rainbow>Top killers this week: Notch, jeb_, Dinnerbone, Grumm</rainbow>"
+    })
+    public String line;
+    
+    private MiniMessage miniMessage;
+    
+    @Setup
+    public void setup() {
+        miniMessage = MiniMessage.miniMessage();
+    }
+    
+    @Benchmark
+    public Component deserialize() {
+        return miniMessage.deserialize(line);
+    }
+}
@@ -0,0 +1,66 @@
+package com.hologramx.benchmarks;
+
+import com.hologramx.holograms.Hologram;
+import com.hologramx.holograms.HologramDefinition;
+import com.hologramx.storage.HologramSerializer;
+import org.bukkit.Location;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-hologram persistence work: snapshotting on the main thread and YAML serialization on the save thread
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    
+    @Param({ "4", "16" })
+    public int lines;
+    
+    private Hologram hologram;
+    private HologramDefinition definition;
+    private String yaml;
+    
+    @Setup
+    public void setup() throws Exception {
+        hologram = new Hologram("benchmark");
+        hologram.setLocation(new Location(BukkitStubs.world("world"), 10.5, 65, 5.5, 180f, 0f));
+        
+        List<String> text = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            text.add("<white>Line " + i + ": <gold>%player_name%</gold> <gradient:#00ff00:#0080ff>stats</gradient></white>");
+        }
+        hologram.setTextLines(text);
+        hologram.setLineScaleUniform(0, 1.5f);
+        
+        definition = hologram.snapshot();
+        yaml = serialize();
+    }
+    
+    @Benchmark
+    public HologramDefinition snapshot() {
+        return hologram.snapshot();
+    }
+    
+    @Benchmark
+    public String serialize() {
+        YamlConfiguration config = new YamlConfiguration();
+        HologramSerializer.write(definition, config.createSection(definition.id()));
+        return config.saveToString();
+    }
+    
+    @Benchmark
+    public HologramDefinition deserialize() throws Exception {
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString(yaml);
+        return HologramSerializer.read(definition.id(), config.getConfigurationSection(definition.id()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.hologramx.benchmarks;
+
+import com.hologramx.holograms.Hologram;
+import com.hologramx.holograms.SpatialIndex;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nearby queries and chunk lookups on the spatial index behind HologramManager#getNearbyHolograms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpatialIndexBenchmark {
+    
+    private static final int SPREAD = 2000; // Holograms are placed within +-SPREAD blocks of the origin
+    private static final int QUERY_POINTS = 1024;
+    
+    @Param({ "1000", "10000" })
+    public int holograms;
+    
+    @Param({ "16", "64" })
+    public double radius;
+    
+    private SpatialIndex index;
+    private World world;
+    private Location[] queries;
+    private int next = 0;
+    
+    @Setup
+    public void setup() {
+        world = BukkitStubs.world("world");
+        index = new SpatialIndex();
+        
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < holograms; i++) {
+            Hologram hologram = new Hologram("hologram_" + i);
+            hologram.setLocation(randomLocation(random));
+            index.add(hologram);
+        }
+        
+        queries = new Location[QUERY_POINTS];
+        for (int i = 0; i < QUERY_POINTS; i++) {
+            queries[i] = randomLocation(random);
+        }
+    }
+    
+    private Location randomLocation(SplittableRandom random) {
+        return new Location(world, random.nextInt(-SPREAD, SPREAD), random.nextInt(60, 120), random.nextInt(-SPREAD, SPREAD));
+    }
+    
+    private Location nextQuery() {
+        Location location = queries[next];
+        next = (next + 1) & (QUERY_POINTS - 1);
+        return location;
+    }
+    
+    @Benchmark
+    public List<Hologram> getNearby() {
+        return index.getNearby(nextQuery(), radius);
+    }
+    
+    @Benchmark
+    public Hologram[] getInChunk() {
+        Location location = nextQuery();
+        return index.getInChunk(world, location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+    
+    @Benchmark
+    public long chunkKey() {
+        Location location = nextQuery();
+        return SpatialIndex.chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+}
@@ -8,7 +8,9 @@ import com.hologramx.config.Messages;
 import com.hologramx.holograms.HologramManager;
 import com.hologramx.listeners.PlayerListener;
 import com.hologramx.listeners.ChunkListener;
+import com.hologramx.scheduler.TaskScheduler;
 import com.hologramx.storage.StorageManager;
+import com.hologramx.utils.PerformanceMonitor;
 import com.hologramx.utils.PlaceholderManager;
 import org.bstats.bukkit.Metrics;
 import org.bukkit.Bukkit;
@@ -24,14 +26,20 @@ public final class HologramX extends JavaPlugin {
     private StorageManager storageManager;
     private HologramManager hologramManager;
     private PlaceholderManager placeholderManager;
+    private PerformanceMonitor performanceMonitor;
+    private TaskScheduler taskScheduler;
 
     @Override
     public void onEnable() {
         instance = this;
         
+        // Bukkit's main-thread scheduler, or region threads when running on Folia
+        taskScheduler = TaskScheduler.create(this);
+        
         // Initialize configuration
         configManager = new ConfigManager(this);
         messages = new Messages(this);
+        performanceMonitor = new PerformanceMonitor(this);
         
         // Initialize storage
         storageManager = new StorageManager(this);
@@ -42,7 +50,7 @@ public final class HologramX extends JavaPlugin {
         }
         
         // Initialize hologram manager
-        hologramManager = new HologramManager(this);
+        hologramManager = new HologramManager(this, taskScheduler);
         
         // Initialize placeholder manager
         placeholderManager = new PlaceholderManager(this);
@@ -68,7 +76,7 @@ public final class HologramX extends JavaPlugin {
     @Override
     public void onDisable() {
         if (hologramManager != null) {
-            hologramManager.saveHolograms();
+            hologramManager.shutdown();
             hologramManager.removeAllHolograms();
         }
         
@@ -76,6 +84,10 @@ public final class HologramX extends JavaPlugin {
             storageManager.close();
         }
         
+        if (taskScheduler != null) {
+            taskScheduler.cancelAll();
+        }
+        
         getLogger().info("HologramX has been disabled!");
     }
     
@@ -103,6 +115,9 @@ public final class HologramX extends JavaPlugin {
         // Reload configuration
         configManager.reload();
         messages.reload();
+        placeholderManager.reload();
+        performanceMonitor.reload();
+        hologramManager.getVisibilityEngine().invalidatePermissions();
         
         // Reload holograms
         hologramManager.loadHolograms();
@@ -130,6 +145,10 @@ public final class HologramX extends JavaPlugin {
         return storageManager;
     }
     
+    public TaskScheduler getTaskScheduler() {
+        return taskScheduler;
+    }
+    
     public HologramManager getHologramManager() {
         return hologramManager;
     }
@@ -137,4 +156,8 @@ public final class HologramX extends JavaPlugin {
     public PlaceholderManager getPlaceholderManager() {
         return placeholderManager;
     }
+    
+    public PerformanceMonitor getPerformanceMonitor() {
+        return performanceMonitor;
+    }
 }
\ No newline at end of file
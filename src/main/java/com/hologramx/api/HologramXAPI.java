@@ -1,11 +1,21 @@
 package com.hologramx.api;
 
 import com.hologramx.HologramX;
+import com.hologramx.holograms.BulkResult;
 import com.hologramx.holograms.Hologram;
+import com.hologramx.holograms.HologramBuilder;
+import com.hologramx.holograms.HologramDefinition;
 import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * HologramX API for developers
@@ -49,6 +59,66 @@ public class HologramXAPI {
         return plugin.getHologramManager().createHologram(id, Hologram.HologramType.BLOCK, location);
     }
     
+    /**
+     * Start building a hologram. Nothing is spawned until HologramBuilder#commit, which creates,
+     * indexes and spawns it once with all properties already set.
+     * @param id Unique identifier for the hologram
+     * @return A builder; commit completes with null if a hologram with this ID already exists
+     */
+    public HologramBuilder buildHologram(String id) {
+        return HologramBuilder.create(id);
+    }
+    
+    /**
+     * Start an edit transaction on a hologram. Changes are collected and applied together on
+     * HologramBuilder#commit, followed by a single refresh.
+     * @param id The hologram ID
+     * @return A builder, or null if the hologram was not found
+     */
+    public HologramBuilder beginEdit(String id) {
+        Hologram hologram = plugin.getHologramManager().getHologram(id);
+        return hologram != null ? HologramBuilder.edit(hologram) : null;
+    }
+    
+    /**
+     * Create many holograms at once. They are indexed first, then spawned in one pass and saved once.
+     * Can be called from any thread, the batch is queued like editHologram and each hologram spawns on its owning thread.
+     * @param definitions The holograms to create, e.g. snapshots taken with getSnapshot
+     * @return Future with the counts and timings of the batch; existing IDs and missing worlds are skipped
+     */
+    public CompletableFuture<BulkResult> createHolograms(Collection<HologramDefinition> definitions) {
+        return plugin.getHologramManager().createHolograms(definitions);
+    }
+    
+    /**
+     * Create many holograms at once from builders, see createHolograms
+     * @param builders The holograms to create, from buildHologram; nothing is committed on them individually
+     * @return Future with the counts and timings of the batch; existing IDs and missing worlds are skipped
+     */
+    public CompletableFuture<BulkResult> buildHolograms(Collection<HologramBuilder> builders) {
+        return plugin.getHologramManager().buildHolograms(builders);
+    }
+    
+    /**
+     * Delete every hologram matching a filter with a single save. Can be called from any thread.
+     * While holograms are loading the filter also removes matching ones that are not spawned yet.
+     * @param filter Selects the holograms to delete
+     * @return Future with the counts and timings of the batch
+     */
+    public CompletableFuture<BulkResult> deleteHolograms(Predicate<Hologram> filter) {
+        return plugin.getHologramManager().deleteHolograms(filter);
+    }
+    
+    /**
+     * Edit many holograms at once. Each edit runs on the thread owning its hologram, each edited
+     * hologram is refreshed once and all are saved once. Can be called from any thread.
+     * @param edits Changes to apply, keyed by hologram ID
+     * @return Future with the counts and timings of the batch; unknown IDs are skipped
+     */
+    public CompletableFuture<BulkResult> applyEdits(Map<String, Consumer<Hologram>> edits) {
+        return plugin.getHologramManager().applyEdits(edits);
+    }
+    
     /**
      * Get a hologram by its ID
      * @param id The hologram ID
@@ -58,6 +128,51 @@ public class HologramXAPI {
         return plugin.getHologramManager().getHologram(id);
     }
     
+    /**
+     * Get the last published state of a hologram, safe to call from any thread
+     * @param id The hologram ID
+     * @return Immutable snapshot of the hologram, or null if not found
+     */
+    public HologramDefinition getSnapshot(String id) {
+        Hologram hologram = plugin.getHologramManager().getHologram(id);
+        return hologram != null ? hologram.getSnapshot() : null;
+    }
+    
+    /**
+     * Get the last published state of all holograms, safe to call from any thread
+     * @return Immutable snapshots of all holograms
+     */
+    public List<HologramDefinition> getSnapshots() {
+        List<HologramDefinition> snapshots = new ArrayList<>();
+        for (Hologram hologram : plugin.getHologramManager().getHolograms()) {
+            HologramDefinition snapshot = hologram.getSnapshot();
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+            }
+        }
+        return snapshots;
+    }
+    
+    /**
+     * Edit a hologram from any thread. Holograms may only be changed on the thread owning them (the main
+     * thread, or the hologram's region on Folia), so the edit is queued for it; the hologram is refreshed afterwards.
+     * @param id The hologram ID
+     * @param edit The changes to apply
+     * @return Future completing with false if the hologram was not found
+     */
+    public CompletableFuture<Boolean> editHologram(String id, Consumer<Hologram> edit) {
+        Hologram target = plugin.getHologramManager().getHologram(id);
+        Location location = target != null ? target.getLocation() : null;
+        return plugin.getHologramManager().getMutationQueue().submit(location, () -> {
+            Hologram hologram = plugin.getHologramManager().getHologram(id);
+            if (hologram == null) return false;
+            
+            edit.accept(hologram);
+            hologram.refresh();
+            return true;
+        });
+    }
+    
     /**
      * Delete a hologram
      * @param id The hologram ID
@@ -75,6 +190,15 @@ public class HologramXAPI {
         return plugin.getHologramManager().getHolograms();
     }
     
+    /**
+     * Get the holograms placed in a world
+     * @param world The world
+     * @return List of the world's holograms
+     */
+    public List<Hologram> getHologramsInWorld(World world) {
+        return plugin.getHologramManager().getHologramsInWorld(world);
+    }
+    
     /**
      * Get holograms near a location
      * @param location The center location
@@ -95,7 +219,22 @@ public class HologramXAPI {
     }
     
     /**
-     * Save all holograms to storage
+     * Clear the cached view permissions of a player, call after changing their permissions
+     * @param player The player whose permissions changed
+     */
+    public void invalidatePermissions(Player player) {
+        plugin.getHologramManager().getVisibilityEngine().invalidatePermissions(player);
+    }
+    
+    /**
+     * Clear the cached view permissions of all players
+     */
+    public void invalidatePermissions() {
+        plugin.getHologramManager().getVisibilityEngine().invalidatePermissions();
+    }
+    
+    /**
+     * Save all holograms to storage. The write happens on the background save thread, this doesn't wait for it.
      */
     public void saveHolograms() {
         plugin.getHologramManager().saveHolograms();
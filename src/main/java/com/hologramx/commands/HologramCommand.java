@@ -2,8 +2,13 @@ package com.hologramx.commands;
 
 import com.hologramx.HologramX;
 import com.hologramx.holograms.Hologram;
+import com.hologramx.holograms.HologramBuilder;
+import com.hologramx.holograms.HologramManager;
+import com.hologramx.holograms.LineAnimation;
 import com.hologramx.utils.LocationUtils;
 import com.hologramx.utils.ColorUtils;
+import com.hologramx.utils.PerformanceMonitor;
+import com.hologramx.utils.PlaceholderCache;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -14,6 +19,7 @@ import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class HologramCommand implements CommandExecutor, TabCompleter {
@@ -44,6 +50,7 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             case "near" -> handleNear(sender, args);
             case "tp", "teleport" -> handleTeleport(sender, args);
             case "reload" -> handleReload(sender, args);
+            case "perf" -> handlePerf(sender, args);
             
             // Edit command (unified editing) - ONLY WAY TO EDIT
             case "edit" -> handleEdit(sender, args);
@@ -283,9 +290,8 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             case "textalignment" -> handleTextAlignment(sender, editArgs);
             case "cleartext" -> {
                 if (hologram.getType() == Hologram.HologramType.TEXT) {
-                    hologram.clearTextLines();
-                    hologram.refresh();
-                    player.sendMessage("§aCleared all text lines for hologram '" + hologramName + "'.");
+                    edit(player, hologram, Hologram::clearTextLines,
+                        () -> player.sendMessage("§aCleared all text lines for hologram '" + hologramName + "'."));
                 } else {
                     player.sendMessage("§cThis command only works with text holograms!");
                 }
@@ -297,11 +303,39 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             case "linescaley" -> handleLineScaleY(sender, editArgs);
             case "linescalez" -> handleLineScaleZ(sender, editArgs);
             case "linespacing" -> handleLineSpacing(sender, editArgs);
+            case "mergelines" -> handleMergeLines(sender, editArgs);
+            
+            // Animations
+            case "animation" -> handleAnimation(sender, editArgs);
+            case "animationspeed" -> handleAnimationSpeed(sender, editArgs);
             
             default -> sendEditUsage(player);
         }
     }
     
+    /**
+     * Applies an edit on the thread owning the hologram followed by a single refresh. On Paper that is this
+     * thread and it runs right away; on Folia the hologram's region may not be the sender's, so the edit is
+     * queued there and the confirmation is sent once it ran.
+     */
+    private void edit(Player player, Hologram hologram, Consumer<Hologram> change, Runnable confirmation) {
+        HologramBuilder.edit(hologram).with(change).commit().thenAccept(edited -> {
+            if (edited != null) {
+                confirmation.run();
+            } else {
+                plugin.getMessages().sendMessage(player, "hologram-not-found", "name", hologram.getId());
+            }
+        });
+    }
+    
+    private void sendMoved(Player player, String name, boolean moved) {
+        if (moved) {
+            plugin.getMessages().sendMessage(player, "hologram-moved", "name", name);
+        } else {
+            plugin.getMessages().sendMessage(player, "hologram-not-found", "name", name);
+        }
+    }
+    
     private void sendEditUsage(Player player) {
         player.sendMessage("§6Edit Hologram Commands:");
         player.sendMessage("§e§lGeneral Properties:");
@@ -334,6 +368,11 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         player.sendMessage("§e/hx edit <name> lineScaleY <line> <factor> §7- Scale line Y-axis");
         player.sendMessage("§e/hx edit <name> lineScaleZ <line> <factor> §7- Scale line Z-axis");
         player.sendMessage("§e/hx edit <name> lineSpacing <value> §7- Set line spacing");
+        player.sendMessage("§e/hx edit <name> mergeLines <true|false> §7- One entity per run of equally scaled lines");
+        
+        player.sendMessage("§e§lAnimations:");
+        player.sendMessage("§e/hx edit <name> animation <line> <type|none> §7- Animate a line");
+        player.sendMessage("§e/hx edit <name> animationSpeed <ticks> §7- Ticks per animation frame");
     }
     
     private void handleMoveHere(CommandSender sender, String[] args) {
@@ -361,11 +400,8 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
-        hologram.despawn();
-        hologram.setLocation(player.getLocation());
-        hologram.spawn();
-        
-        plugin.getMessages().sendMessage(player, "hologram-moved", "name", name);
+        plugin.getHologramManager().moveHologram(hologram, player.getLocation())
+            .thenAccept(moved -> sendMoved(player, name, moved));
     }
     
     private void handleMoveTo(CommandSender sender, String[] args) {
@@ -402,11 +438,8 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             
             Location newLocation = new Location(hologram.getLocation().getWorld(), x, y, z, yaw, pitch);
             
-            hologram.despawn();
-            hologram.setLocation(newLocation);
-            hologram.spawn();
-            
-            plugin.getMessages().sendMessage(player, "hologram-moved", "name", name);
+            plugin.getHologramManager().moveHologram(hologram, newLocation)
+                .thenAccept(moved -> sendMoved(player, name, moved));
             
         } catch (NumberFormatException e) {
             plugin.getMessages().sendMessage(player, "error-invalid-number", "value", "coordinates");
@@ -440,14 +473,11 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         try {
             float degrees = Float.parseFloat(args[2]);
-            Location loc = hologram.getLocation();
-            loc.setYaw(degrees);
-            
-            hologram.despawn();
-            hologram.setLocation(loc);
-            hologram.spawn();
-            
-            player.sendMessage("§aRotated hologram '" + name + "' to " + degrees + " degrees (Y-axis).");
+            edit(player, hologram, target -> {
+                Location loc = target.getLocation().clone();
+                loc.setYaw(degrees);
+                target.setLocation(loc);
+            }, () -> player.sendMessage("§aRotated hologram '" + name + "' to " + degrees + " degrees (Y-axis)."));
             
         } catch (NumberFormatException e) {
             plugin.getMessages().sendMessage(player, "error-invalid-number", "value", args[2]);
@@ -481,14 +511,11 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         try {
             float degrees = Float.parseFloat(args[2]);
-            Location loc = hologram.getLocation();
-            loc.setPitch(degrees);
-            
-            hologram.despawn();
-            hologram.setLocation(loc);
-            hologram.spawn();
-            
-            player.sendMessage("§aRotated hologram '" + name + "' pitch to " + degrees + " degrees (X-axis).");
+            edit(player, hologram, target -> {
+                Location loc = target.getLocation().clone();
+                loc.setPitch(degrees);
+                target.setLocation(loc);
+            }, () -> player.sendMessage("§aRotated hologram '" + name + "' pitch to " + degrees + " degrees (X-axis)."));
             
         } catch (NumberFormatException e) {
             plugin.getMessages().sendMessage(player, "error-invalid-number", "value", args[2]);
@@ -522,13 +549,9 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         try {
             int distance = Integer.parseInt(args[2]);
-            hologram.setVisibilityDistance(distance);
-            
-            hologram.despawn();
-            hologram.spawn();
-            
             String distanceText = distance == -1 ? "unlimited" : distance + " blocks";
-            player.sendMessage("§aSet visibility distance for hologram '" + name + "' to " + distanceText + ".");
+            edit(player, hologram, target -> target.setVisibilityDistance(distance),
+                () -> player.sendMessage("§aSet visibility distance for hologram '" + name + "' to " + distanceText + "."));
             
         } catch (NumberFormatException e) {
             plugin.getMessages().sendMessage(player, "error-invalid-number", "value", args[2]);
@@ -574,8 +597,8 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
                 }
             }
             
-            hologram.setVisibility(visibility);
-            player.sendMessage("§aSet visibility for hologram '" + name + "' to " + visibilityType + ".");
+            edit(player, hologram, target -> target.setVisibility(visibility),
+                () -> player.sendMessage("§aSet visibility for hologram '" + name + "' to " + visibilityType + "."));
             
         } catch (IllegalArgumentException e) {
             player.sendMessage("§cInvalid visibility type! Use: ALL, MANUAL, or PERMISSION_NEEDED");
@@ -609,13 +632,11 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         try {
             float factor = Float.parseFloat(args[2]);
-            hologram.setScaleX(factor);
-            hologram.setScaleY(factor);
-            hologram.setScaleZ(factor);
-            
-            hologram.refresh();
-            
-            player.sendMessage("§aScaled hologram '" + name + "' by factor " + factor + ".");
+            edit(player, hologram, target -> {
+                target.setScaleX(factor);
+                target.setScaleY(factor);
+                target.setScaleZ(factor);
+            }, () -> player.sendMessage("§aScaled hologram '" + name + "' by factor " + factor + "."));
             
         } catch (NumberFormatException e) {
             plugin.getMessages().sendMessage(player, "error-invalid-number", "value", args[2]);
@@ -651,12 +672,8 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         try {
             Hologram.BillboardType billboard = Hologram.BillboardType.valueOf(billboardType);
-            hologram.setBillboard(billboard);
-            
-            hologram.despawn();
-            hologram.spawn();
-            
-            player.sendMessage("§aSet billboard mode for hologram '" + name + "' to " + billboardType + ".");
+            edit(player, hologram, target -> target.setBillboard(billboard),
+                () -> player.sendMessage("§aSet billboard mode for hologram '" + name + "' to " + billboardType + "."));
             
         } catch (IllegalArgumentException e) {
             player.sendMessage("§cInvalid billboard type! Use: center, fixed, vertical, or horizontal");
@@ -690,12 +707,8 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         try {
             float strength = Float.parseFloat(args[2]);
-            hologram.setShadowStrength(strength);
-            
-            hologram.despawn();
-            hologram.spawn();
-            
-            player.sendMessage("§aSet shadow strength for hologram '" + name + "' to " + strength + ".");
+            edit(player, hologram, target -> target.setShadowStrength(strength),
+                () -> player.sendMessage("§aSet shadow strength for hologram '" + name + "' to " + strength + "."));
             
         } catch (NumberFormatException e) {
             plugin.getMessages().sendMessage(player, "error-invalid-number", "value", args[2]);
@@ -729,12 +742,8 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         try {
             float radius = Float.parseFloat(args[2]);
-            hologram.setShadowRadius(radius);
-            
-            hologram.despawn();
-            hologram.spawn();
-            
-            player.sendMessage("§aSet shadow radius for hologram '" + name + "' to " + radius + ".");
+            edit(player, hologram, target -> target.setShadowRadius(radius),
+                () -> player.sendMessage("§aSet shadow radius for hologram '" + name + "' to " + radius + "."));
             
         } catch (NumberFormatException e) {
             plugin.getMessages().sendMessage(player, "error-invalid-number", "value", args[2]);
@@ -766,13 +775,23 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
-        if (hologram.isLoaded()) {
-            hologram.despawn();
-        } else {
-            hologram.spawn();
-        }
-        
-        plugin.getMessages().sendMessage(player, "hologram-toggled", "name", name);
+        // Spawning and despawning touch the entities, so they run on the thread owning the hologram
+        plugin.getHologramManager().getMutationQueue().submit(hologram.getLocation(), () -> {
+            if (plugin.getHologramManager().getHologram(name) != hologram) return false;
+            
+            if (hologram.isLoaded()) {
+                hologram.despawn();
+            } else {
+                hologram.spawn();
+            }
+            return true;
+        }).thenAccept(toggled -> {
+            if (toggled) {
+                plugin.getMessages().sendMessage(player, "hologram-toggled", "name", name);
+            } else {
+                plugin.getMessages().sendMessage(player, "hologram-not-found", "name", name);
+            }
+        });
     }
     
     private void handleClone(CommandSender sender, String[] args) {
@@ -806,24 +825,21 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
-        Hologram newHologram = plugin.getHologramManager().createHologram(
-            newName, hologram.getType(), player.getLocation());
-        
-        if (newHologram != null) {
-            // Copy properties
-            newHologram.setTextLines(new ArrayList<>(hologram.getTextLines()));
-            newHologram.setScaleX(hologram.getScaleX());
-            newHologram.setScaleY(hologram.getScaleY());
-            newHologram.setScaleZ(hologram.getScaleZ());
-            newHologram.setVisibility(hologram.getVisibility());
-            newHologram.setVisibilityDistance(hologram.getVisibilityDistance());
-            
-            newHologram.despawn();
-            newHologram.spawn();
-            
-            plugin.getMessages().sendMessage(player, "hologram-cloned", 
-                "name", name, "new_name", newName);
-        }
+        // Copy properties before committing so the clone spawns once, fully configured
+        HologramBuilder.create(newName)
+            .type(hologram.getType())
+            .location(player.getLocation())
+            .text(hologram.getTextLines())
+            .scale(hologram.getScaleX(), hologram.getScaleY(), hologram.getScaleZ())
+            .visibility(hologram.getVisibility())
+            .visibilityDistance(hologram.getVisibilityDistance())
+            .commit()
+            .thenAccept(newHologram -> {
+                if (newHologram != null) {
+                    plugin.getMessages().sendMessage(player, "hologram-cloned", 
+                        "name", name, "new_name", newName);
+                }
+            });
     }
     
     private void handleNear(CommandSender sender, String[] args) {
@@ -892,8 +908,12 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         Location location = hologram.getLocation();
         if (location != null) {
-            player.teleport(location);
-            plugin.getMessages().sendMessage(player, "hologram-teleported", "name", name);
+            // Load the destination chunk asynchronously instead of blocking the tick
+            player.teleportAsync(location).thenAccept(success -> {
+                if (success) {
+                    plugin.getMessages().sendMessage(player, "hologram-teleported", "name", name);
+                }
+            });
         }
     }
     
@@ -934,13 +954,9 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             String text = String.join(" ", Arrays.copyOfRange(args, 3, args.length));
             
             if (lineNumber >= 0 && lineNumber < hologram.getTextLines().size()) {
-                hologram.getTextLines().set(lineNumber, text);
-                
-                hologram.despawn();
-                hologram.spawn();
-                
-                plugin.getMessages().sendMessage(player, "text-line-set", 
-                    "name", name, "line", String.valueOf(lineNumber + 1));
+                edit(player, hologram, target -> target.setTextLine(lineNumber, text),
+                    () -> plugin.getMessages().sendMessage(player, "text-line-set", 
+                        "name", name, "line", String.valueOf(lineNumber + 1)));
             } else {
                 plugin.getMessages().sendMessage(player, "text-line-invalid", 
                     "max", String.valueOf(hologram.getTextLines().size()));
@@ -981,11 +997,8 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         }
         
         String text = String.join(" ", Arrays.copyOfRange(args, 2, args.length));
-        hologram.addTextLine(text);
-        
-        hologram.refresh();
-        
-        plugin.getMessages().sendMessage(player, "text-line-added", "name", name);
+        edit(player, hologram, target -> target.addTextLine(text),
+            () -> plugin.getMessages().sendMessage(player, "text-line-added", "name", name));
     }
     
     private void handleRemoveLine(CommandSender sender, String[] args) {
@@ -1022,13 +1035,9 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             int lineNumber = Integer.parseInt(args[2]) - 1;
             
             if (lineNumber >= 0 && lineNumber < hologram.getTextLines().size()) {
-                hologram.removeTextLine(lineNumber);
-                
-                hologram.despawn();
-                hologram.spawn();
-                
-                plugin.getMessages().sendMessage(player, "text-line-removed", 
-                    "name", name, "line", String.valueOf(lineNumber + 1));
+                edit(player, hologram, target -> target.removeTextLine(lineNumber),
+                    () -> plugin.getMessages().sendMessage(player, "text-line-removed", 
+                        "name", name, "line", String.valueOf(lineNumber + 1)));
             } else {
                 plugin.getMessages().sendMessage(player, "text-line-invalid", 
                     "max", String.valueOf(hologram.getTextLines().size()));
@@ -1073,13 +1082,9 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             String text = String.join(" ", Arrays.copyOfRange(args, 3, args.length));
             
             if (lineNumber >= 0 && lineNumber <= hologram.getTextLines().size()) {
-                hologram.insertTextLine(lineNumber, text);
-                
-                hologram.despawn();
-                hologram.spawn();
-                
-                plugin.getMessages().sendMessage(player, "text-line-inserted", 
-                    "name", name, "line", String.valueOf(lineNumber + 1));
+                edit(player, hologram, target -> target.insertTextLine(lineNumber, text),
+                    () -> plugin.getMessages().sendMessage(player, "text-line-inserted", 
+                        "name", name, "line", String.valueOf(lineNumber + 1)));
             } else {
                 plugin.getMessages().sendMessage(player, "text-line-invalid", 
                     "max", String.valueOf(hologram.getTextLines().size()));
@@ -1124,13 +1129,9 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             String text = String.join(" ", Arrays.copyOfRange(args, 3, args.length));
             
             if (lineNumber >= 1 && lineNumber <= hologram.getTextLines().size()) {
-                hologram.insertTextLine(lineNumber, text);
-                
-                hologram.despawn();
-                hologram.spawn();
-                
-                plugin.getMessages().sendMessage(player, "text-line-inserted", 
-                    "name", name, "line", String.valueOf(lineNumber + 1));
+                edit(player, hologram, target -> target.insertTextLine(lineNumber, text),
+                    () -> plugin.getMessages().sendMessage(player, "text-line-inserted", 
+                        "name", name, "line", String.valueOf(lineNumber + 1)));
             } else {
                 plugin.getMessages().sendMessage(player, "text-line-invalid", 
                     "max", String.valueOf(hologram.getTextLines().size()));
@@ -1184,10 +1185,10 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
                 interval = Integer.parseInt(intervalStr);
             }
             
-            hologram.setUpdateTextInterval(interval);
-            
+            int ticks = interval;
             String intervalText = interval == -1 ? "disabled" : interval + " ticks";
-            player.sendMessage("§aSet update interval for hologram '" + name + "' to " + intervalText + ".");
+            edit(player, hologram, target -> target.setUpdateTextInterval(ticks),
+                () -> player.sendMessage("§aSet update interval for hologram '" + name + "' to " + intervalText + "."));
             
         } catch (NumberFormatException e) {
             plugin.getMessages().sendMessage(player, "error-invalid-number", "value", intervalStr);
@@ -1233,13 +1234,9 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
-        hologram.setBackground(parsedColor);
-        
-        hologram.despawn();
-        hologram.spawn();
-        
         String displayColor = ColorUtils.formatColorForDisplay(parsedColor);
-        player.sendMessage("§aSet background color for hologram '" + name + "' to " + displayColor + ".");
+        edit(player, hologram, target -> target.setBackground(parsedColor),
+            () -> player.sendMessage("§aSet background color for hologram '" + name + "' to " + displayColor + "."));
     }
     
     private void handleTextShadow(CommandSender sender, String[] args) {
@@ -1275,12 +1272,46 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         }
         
         boolean shadow = "true".equals(shadowStr) || "on".equals(shadowStr) || "yes".equals(shadowStr);
-        hologram.setTextShadow(shadow);
+        edit(player, hologram, target -> target.setTextShadow(shadow),
+            () -> player.sendMessage("§aSet text shadow for hologram '" + name + "' to " + shadow + "."));
+    }
+    
+    private void handleMergeLines(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
+            plugin.getMessages().sendMessage((Player) sender, "player-only");
+            return;
+        }
+        
+        if (!sender.hasPermission("hologramx.edit")) {
+            plugin.getMessages().sendMessage(player, "no-permission");
+            return;
+        }
+        
+        if (args.length < 3) {
+            plugin.getMessages().sendMessage(player, "invalid-syntax", 
+                "usage", "/hx edit <name> mergeLines <true|false>");
+            return;
+        }
+        
+        String name = args[1];
+        String mergeStr = args[2].toLowerCase();
+        
+        Hologram hologram = plugin.getHologramManager().getHologram(name);
+        
+        if (hologram == null) {
+            plugin.getMessages().sendMessage(player, "hologram-not-found", "name", name);
+            return;
+        }
         
-        hologram.despawn();
-        hologram.spawn();
+        if (hologram.getType() != Hologram.HologramType.TEXT) {
+            player.sendMessage("§cThis command only works with text holograms!");
+            return;
+        }
         
-        player.sendMessage("§aSet text shadow for hologram '" + name + "' to " + shadow + ".");
+        boolean merge = "true".equals(mergeStr) || "on".equals(mergeStr) || "yes".equals(mergeStr);
+        edit(player, hologram, target -> target.setMergeLines(merge),
+            () -> player.sendMessage("§aSet merged lines for hologram '" + name + "' to " + merge + " ("
+                + hologram.getDisplayEntities().size() + " entities)."));
     }
     
     private void handleTextAlignment(CommandSender sender, String[] args) {
@@ -1317,12 +1348,8 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         try {
             Hologram.TextAlignment alignment = Hologram.TextAlignment.valueOf(alignmentStr);
-            hologram.setTextAlignment(alignment);
-            
-            hologram.despawn();
-            hologram.spawn();
-            
-            player.sendMessage("§aSet text alignment for hologram '" + name + "' to " + alignmentStr + ".");
+            edit(player, hologram, target -> target.setTextAlignment(alignment),
+                () -> player.sendMessage("§aSet text alignment for hologram '" + name + "' to " + alignmentStr + "."));
             
         } catch (IllegalArgumentException e) {
             player.sendMessage("§cInvalid alignment! Use: center, left, or right");
@@ -1366,11 +1393,8 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             float scale = Float.parseFloat(args[3]);
             
             if (lineNumber >= 0 && lineNumber < hologram.getTextLines().size()) {
-                hologram.setLineScaleUniform(lineNumber, scale);
-                
-                hologram.refresh();
-                
-                player.sendMessage("§aSet scale for line " + (lineNumber + 1) + " of hologram '" + name + "' to " + scale + ".");
+                edit(player, hologram, target -> target.setLineScaleUniform(lineNumber, scale),
+                    () -> player.sendMessage("§aSet scale for line " + (lineNumber + 1) + " of hologram '" + name + "' to " + scale + "."));
             } else {
                 plugin.getMessages().sendMessage(player, "text-line-invalid", 
                     "max", String.valueOf(hologram.getTextLines().size()));
@@ -1427,19 +1451,17 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             float scale = Float.parseFloat(args[3]);
             
             if (lineNumber >= 0 && lineNumber < hologram.getTextLines().size()) {
-                float currentX = hologram.getLineScaleX(lineNumber);
-                float currentY = hologram.getLineScaleY(lineNumber);
-                float currentZ = hologram.getLineScaleZ(lineNumber);
-                
-                switch (axis) {
-                    case "X" -> hologram.setLineScale(lineNumber, scale, currentY, currentZ);
-                    case "Y" -> hologram.setLineScale(lineNumber, currentX, scale, currentZ);
-                    case "Z" -> hologram.setLineScale(lineNumber, currentX, currentY, scale);
-                }
-                
-                hologram.refresh();
-                
-                player.sendMessage("§aSet " + axis + "-scale for line " + (lineNumber + 1) + " of hologram '" + name + "' to " + scale + ".");
+                edit(player, hologram, target -> {
+                    float currentX = target.getLineScaleX(lineNumber);
+                    float currentY = target.getLineScaleY(lineNumber);
+                    float currentZ = target.getLineScaleZ(lineNumber);
+                    
+                    switch (axis) {
+                        case "X" -> target.setLineScale(lineNumber, scale, currentY, currentZ);
+                        case "Y" -> target.setLineScale(lineNumber, currentX, scale, currentZ);
+                        case "Z" -> target.setLineScale(lineNumber, currentX, currentY, scale);
+                    }
+                }, () -> player.sendMessage("§aSet " + axis + "-scale for line " + (lineNumber + 1) + " of hologram '" + name + "' to " + scale + "."));
             } else {
                 plugin.getMessages().sendMessage(player, "text-line-invalid", 
                     "max", String.valueOf(hologram.getTextLines().size()));
@@ -1476,11 +1498,124 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         try {
             double spacing = Double.parseDouble(args[2]);
-            hologram.setLineSpacing(spacing);
+            edit(player, hologram, target -> target.setLineSpacing(spacing),
+                () -> player.sendMessage("§aSet line spacing for hologram '" + name + "' to " + spacing + "."));
             
-            hologram.refresh();
+        } catch (NumberFormatException e) {
+            plugin.getMessages().sendMessage(player, "error-invalid-number", "value", args[2]);
+        }
+    }
+    
+    private void handleAnimation(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
+            plugin.getMessages().sendMessage((Player) sender, "player-only");
+            return;
+        }
+        
+        if (!sender.hasPermission("hologramx.edit")) {
+            plugin.getMessages().sendMessage(player, "no-permission");
+            return;
+        }
+        
+        if (args.length < 4) {
+            plugin.getMessages().sendMessage(player, "invalid-syntax", 
+                "usage", "/hx edit <name> animation <line> <typing|scrolling[:width]|blinking|gradient[:colors]|none>");
+            return;
+        }
+        
+        String name = args[1];
+        Hologram hologram = plugin.getHologramManager().getHologram(name);
+        
+        if (hologram == null) {
+            plugin.getMessages().sendMessage(player, "hologram-not-found", "name", name);
+            return;
+        }
+        
+        if (hologram.getType() != Hologram.HologramType.TEXT) {
+            player.sendMessage("§cThis command only works with text holograms!");
+            return;
+        }
+        
+        int lineNumber;
+        try {
+            lineNumber = Integer.parseInt(args[2]) - 1;
+        } catch (NumberFormatException e) {
+            plugin.getMessages().sendMessage(player, "error-invalid-number", "value", args[2]);
+            return;
+        }
+        
+        if (lineNumber < 0 || lineNumber >= hologram.getTextLines().size()) {
+            plugin.getMessages().sendMessage(player, "text-line-invalid", 
+                "max", String.valueOf(hologram.getTextLines().size()));
+            return;
+        }
+        
+        String spec = args[3];
+        if ("none".equalsIgnoreCase(spec) || "stop".equalsIgnoreCase(spec)) {
+            edit(player, hologram, target -> target.setLineAnimation(lineNumber, null),
+                () -> plugin.getMessages().sendMessage(player, "animation-stopped", "name", name));
+            return;
+        }
+        
+        LineAnimation animation = LineAnimation.parse(spec);
+        if (animation == null) {
+            plugin.getMessages().sendMessage(player, "animation-not-found", "animation", spec);
+            return;
+        }
+        
+        // Replacing a line's animation doesn't count against the limit
+        int maxAnimations = plugin.getConfigManager().getMaxAnimationsPerHologram();
+        if (hologram.getLineAnimation(lineNumber) == null && hologram.getAnimationCount() >= maxAnimations) {
+            player.sendMessage("§cHologram '" + name + "' already has the maximum of " + maxAnimations + " animations!");
+            return;
+        }
+        
+        edit(player, hologram, target -> target.setLineAnimation(lineNumber, animation), () -> {
+            plugin.getMessages().sendMessage(player, "animation-applied", 
+                "animation", animation.toString(), "name", name);
+            if (!plugin.getHologramManager().getAnimationEngine().isEnabled()) {
+                player.sendMessage("§eAnimations are disabled in the config, the line stays static until they are enabled.");
+            }
+        });
+    }
+    
+    private void handleAnimationSpeed(CommandSender sender, String[] args) {
+        if (!(sender instanceof Player player)) {
+            plugin.getMessages().sendMessage((Player) sender, "player-only");
+            return;
+        }
+        
+        if (!sender.hasPermission("hologramx.edit")) {
+            plugin.getMessages().sendMessage(player, "no-permission");
+            return;
+        }
+        
+        if (args.length < 3) {
+            plugin.getMessages().sendMessage(player, "invalid-syntax", 
+                "usage", "/hx edit <name> animationSpeed <ticks per frame>");
+            return;
+        }
+        
+        String name = args[1];
+        Hologram hologram = plugin.getHologramManager().getHologram(name);
+        
+        if (hologram == null) {
+            plugin.getMessages().sendMessage(player, "hologram-not-found", "name", name);
+            return;
+        }
+        
+        try {
+            int speed = Integer.parseInt(args[2]);
+            if (speed < 1) {
+                plugin.getMessages().sendMessage(player, "error-invalid-number", "value", args[2]);
+                return;
+            }
             
-            player.sendMessage("§aSet line spacing for hologram '" + name + "' to " + spacing + ".");
+            // Frames can't advance faster than the shared animation clock
+            int effective = Math.max(speed, plugin.getConfigManager().getAnimationUpdateRate());
+            edit(player, hologram, target -> target.setAnimationSpeed(speed),
+                () -> plugin.getMessages().sendMessage(player, "animation-speed-set", 
+                    "speed", effective + " ticks", "name", name));
             
         } catch (NumberFormatException e) {
             plugin.getMessages().sendMessage(player, "error-invalid-number", "value", args[2]);
@@ -1504,6 +1639,49 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         }
     }
     
+    private void handlePerf(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("hologramx.admin")) {
+            if (sender instanceof Player player) {
+                plugin.getMessages().sendMessage(player, "no-permission");
+            }
+            return;
+        }
+        
+        PerformanceMonitor monitor = plugin.getPerformanceMonitor();
+        if (!monitor.isEnabled()) {
+            sender.sendMessage("§cPerformance logging is disabled. Set debug.performance-logging to true and reload.");
+            return;
+        }
+        
+        if (args.length > 1 && "reset".equalsIgnoreCase(args[1])) {
+            monitor.reset();
+            plugin.getHologramManager().getRenderStats().reset();
+            sender.sendMessage("§aPerformance statistics have been reset.");
+            return;
+        }
+        
+        sender.sendMessage("§6HologramX timings §7(last " + monitor.getWindowSeconds() + "s, p50 / p99 / max in ms):");
+        for (PerformanceMonitor.Stage stage : PerformanceMonitor.Stage.values()) {
+            PerformanceMonitor.StageReport report = monitor.getReport(stage);
+            sender.sendMessage(String.format("§e%s§7: §f%d §7calls, §f%.3f §7/ §f%.3f §7/ §f%.3f",
+                stage.getDisplayName(), report.count(),
+                report.p50() / 1e6, report.p99() / 1e6, report.max() / 1e6));
+        }
+        
+        HologramManager manager = plugin.getHologramManager();
+        sender.sendMessage(String.format("§eText updates§7: §f%d §7applied, §f%d §7unchanged",
+            manager.getRenderStats().getApplied(), manager.getRenderStats().getSuppressed()));
+        sender.sendMessage(String.format("§eUpdate scheduler§7: §f%d §7scheduled, §f%d §7backlog",
+            manager.getUpdateScheduler().getScheduledCount(), manager.getUpdateScheduler().getBacklog()));
+        sender.sendMessage("§eAnimations§7: §f" + manager.getAnimationEngine().getAnimatedCount() + " §7animated holograms");
+        
+        PlaceholderCache cache = plugin.getPlaceholderManager().getCache();
+        if (cache != null) {
+            sender.sendMessage(String.format("§ePlaceholder cache§7: §f%d §7entries, §f%.1f%% §7hit rate",
+                cache.size(), cache.getHitRate() * 100));
+        }
+    }
+    
     private void sendUsage(CommandSender sender) {
         sender.sendMessage("§6HologramX Commands:");
         sender.sendMessage("§e§lBasic Commands:");
@@ -1513,6 +1691,7 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("§e/hx info <name> §7- Show hologram info");
         sender.sendMessage("§e/hx clone <name> <new_name> §7- Clone hologram");
         sender.sendMessage("§e/hx reload §7- Reload plugin");
+        sender.sendMessage("§e/hx perf [reset] §7- Show performance timings");
         
         sender.sendMessage("§e§lEdit Command:");
         sender.sendMessage("§e/hx edit <name> <property> [args...] §7- Edit hologram properties");
@@ -1525,7 +1704,7 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         if (args.length == 1) {
             List<String> commands = Arrays.asList(
-                "create", "delete", "list", "info", "toggle", "clone", "near", "tp", "reload", "edit"
+                "create", "delete", "list", "info", "toggle", "clone", "near", "tp", "reload", "perf", "edit"
             );
             return commands.stream()
                 .filter(cmd -> cmd.toLowerCase().startsWith(args[0].toLowerCase()))
@@ -1565,7 +1744,8 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
                     "moveHere", "moveTo", "rotate", "rotatePitch", "visibilityDistance", "visibility",
                     "scale", "billboard", "shadowStrength", "shadowRadius", "setLine", "addLine",
                     "removeLine", "insertBefore", "insertAfter", "updateTextInterval", "background",
-                    "textShadow", "textAlignment", "clearText", "lineScale", "lineScaleX", "lineScaleY", "lineScaleZ", "lineSpacing"
+                    "textShadow", "textAlignment", "clearText", "lineScale", "lineScaleX", "lineScaleY", "lineScaleZ", "lineSpacing",
+                    "mergeLines", "animation", "animationSpeed"
                 );
                 return editCommands.stream()
                     .filter(cmd -> cmd.toLowerCase().startsWith(args[2].toLowerCase()))
@@ -1618,49 +1798,54 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
             
             // For edit commands
             String editCommand = args[2].toLowerCase();
-                
-                if ("visibility".equals(editCommand)) {
-                    return Arrays.asList("ALL", "MANUAL", "PERMISSION_NEEDED").stream()
-                        .filter(type -> type.toLowerCase().startsWith(args[3].toLowerCase()))
-                        .collect(Collectors.toList());
-                }
-                
-                if ("billboard".equals(editCommand)) {
-                    return Arrays.asList("center", "fixed", "vertical", "horizontal").stream()
-                        .filter(type -> type.toLowerCase().startsWith(args[3].toLowerCase()))
-                        .collect(Collectors.toList());
-                }
-                
-                if ("textshadow".equals(editCommand)) {
-                    return Arrays.asList("true", "false").stream()
-                        .filter(type -> type.toLowerCase().startsWith(args[3].toLowerCase()))
-                        .collect(Collectors.toList());
-                }
-                
-                if ("textalignment".equals(editCommand)) {
-                    return Arrays.asList("center", "left", "right").stream()
-                        .filter(type -> type.toLowerCase().startsWith(args[3].toLowerCase()))
-                        .collect(Collectors.toList());
-                }
-                
-                if ("background".equals(editCommand)) {
-                    return ColorUtils.getColorSuggestions(args[3]);
-                }
-                
-                if ("linespacing".equals(editCommand)) {
-                    // Line spacing value suggestions
-                    return Arrays.asList("0.1", "0.15", "0.2", "0.25", "0.3", "0.5").stream()
-                        .filter(spacing -> spacing.startsWith(args[3]))
-                        .collect(Collectors.toList());
-                }
-                
-                // Line number completions for edit commands
-                if (Arrays.asList("setline", "removeline", "insertbefore", "insertafter",
-                    "linescale", "linescalex", "linescaley", "linescalez").contains(editCommand)) {
-                    Hologram hologram = plugin.getHologramManager().getHologram(args[1]);
-                    if (hologram != null && hologram.getType() == Hologram.HologramType.TEXT) {
-                        return getLineNumberCompletions(hologram, editCommand, args[3]);
-                    }
+            
+            if ("visibility".equals(editCommand)) {
+                return Arrays.asList("ALL", "MANUAL", "PERMISSION_NEEDED").stream()
+                    .filter(type -> type.toLowerCase().startsWith(args[3].toLowerCase()))
+                    .collect(Collectors.toList());
+            }
+            
+            if ("billboard".equals(editCommand)) {
+                return Arrays.asList("center", "fixed", "vertical", "horizontal").stream()
+                    .filter(type -> type.toLowerCase().startsWith(args[3].toLowerCase()))
+                    .collect(Collectors.toList());
+            }
+            
+            if ("textshadow".equals(editCommand) || "mergelines".equals(editCommand)) {
+                return Arrays.asList("true", "false").stream()
+                    .filter(type -> type.toLowerCase().startsWith(args[3].toLowerCase()))
+                    .collect(Collectors.toList());
+            }
+            
+            if ("textalignment".equals(editCommand)) {
+                return Arrays.asList("center", "left", "right").stream()
+                    .filter(type -> type.toLowerCase().startsWith(args[3].toLowerCase()))
+                    .collect(Collectors.toList());
+            }
+            
+            if ("background".equals(editCommand)) {
+                return ColorUtils.getColorSuggestions(args[3]);
+            }
+            
+            if ("linespacing".equals(editCommand)) {
+                // Line spacing value suggestions
+                return Arrays.asList("0.1", "0.15", "0.2", "0.25", "0.3", "0.5").stream()
+                    .filter(spacing -> spacing.startsWith(args[3]))
+                    .collect(Collectors.toList());
+            }
+            
+            if ("animationspeed".equals(editCommand)) {
+                return Arrays.asList("1", "2", "4", "10", "20").stream()
+                    .filter(speed -> speed.startsWith(args[3]))
+                    .collect(Collectors.toList());
+            }
+            
+            // Line number completions for edit commands
+            if (Arrays.asList("setline", "removeline", "insertbefore", "insertafter",
+                "linescale", "linescalex", "linescaley", "linescalez", "animation").contains(editCommand)) {
+                Hologram hologram = plugin.getHologramManager().getHologram(args[1]);
+                if (hologram != null && hologram.getType() == Hologram.HologramType.TEXT) {
+                    return getLineNumberCompletions(hologram, editCommand, args[3]);
                 }
             }
         }
@@ -1676,6 +1861,10 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
                     return Arrays.asList("0.5", "1.0", "1.5", "2.0", "2.5", "3.0").stream()
                         .filter(scale -> scale.startsWith(args[4]))
                         .collect(Collectors.toList());
+                } else if ("animation".equals(editCommand)) {
+                    return Arrays.asList("typing", "scrolling", "blinking", "gradient", "none").stream()
+                        .filter(type -> type.startsWith(args[4].toLowerCase()))
+                        .collect(Collectors.toList());
                 } else if (Arrays.asList("setline", "insertbefore", "insertafter").contains(editCommand)) {
                     // Text suggestions for line content
                     return Arrays.asList("<red>", "<blue>", "<green>", "<yellow>", "<gold>", "<gray>",
@@ -1719,5 +1908,4 @@ public class HologramCommand implements CommandExecutor, TabCompleter {
         
         return lineNumbers;
     }
-    }
 }
\ No newline at end of file
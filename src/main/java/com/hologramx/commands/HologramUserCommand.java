@@ -51,8 +51,8 @@ public class HologramUserCommand implements CommandExecutor, TabCompleter {
             return;
         }
         
-        Collection<Hologram> allHolograms = plugin.getHologramManager().getHolograms();
-        List<Hologram> visibleHolograms = allHolograms.stream()
+        // Only the player's own world can hold holograms they are able to see
+        List<Hologram> visibleHolograms = plugin.getHologramManager().getHologramsInWorld(player.getWorld()).stream()
             .filter(hologram -> hologram.canView(player))
             .collect(Collectors.toList());
         
@@ -205,8 +205,12 @@ public class HologramUserCommand implements CommandExecutor, TabCompleter {
         
         Location location = hologram.getLocation();
         if (location != null) {
-            player.teleport(location);
-            plugin.getMessages().sendMessage(player, "hologram-teleported", "name", name);
+            // Load the destination chunk asynchronously instead of blocking the tick
+            player.teleportAsync(location).thenAccept(success -> {
+                if (success) {
+                    plugin.getMessages().sendMessage(player, "hologram-teleported", "name", name);
+                }
+            });
         }
     }
     
@@ -237,7 +241,7 @@ public class HologramUserCommand implements CommandExecutor, TabCompleter {
             String subCommand = args[0].toLowerCase();
             
             if (Arrays.asList("info", "tp").contains(subCommand)) {
-                return plugin.getHologramManager().getHolograms().stream()
+                return plugin.getHologramManager().getHologramsInWorld(player.getWorld()).stream()
                     .filter(hologram -> hologram.canView(player))
                     .map(Hologram::getId)
                     .filter(name -> name.toLowerCase().startsWith(args[1].toLowerCase()))
@@ -57,6 +57,10 @@ public class ConfigManager {
         return config.getInt("performance.update-interval", 20);
     }
     
+    public int getUpdateBudgetMillis() {
+        return config.getInt("performance.update-budget-ms", 5);
+    }
+    
     public boolean isChunkLoadingEnabled() {
         return config.getBoolean("performance.chunk-loading", true);
     }
@@ -69,6 +73,38 @@ public class ConfigManager {
         return config.getInt("performance.max-per-chunk", 50);
     }
     
+    public String getRenderMode() {
+        return config.getString("performance.render-mode", "SHARED");
+    }
+    
+    public int getVisibilityPlayersPerTick() {
+        return config.getInt("performance.visibility-players-per-tick", 20);
+    }
+    
+    public int getVisibilityRefreshInterval() {
+        return config.getInt("performance.visibility-refresh-interval", 100);
+    }
+    
+    public double getVisibilityHysteresis() {
+        return config.getDouble("performance.visibility-hysteresis", 4.0);
+    }
+    
+    public int getPermissionCacheTicks() {
+        return config.getInt("performance.permission-cache-ticks", 100);
+    }
+    
+    public int getLoadBudgetMillis() {
+        return config.getInt("performance.load-budget-ms", 10);
+    }
+    
+    public int getAutosaveInterval() {
+        return config.getInt("performance.autosave-interval", 100);
+    }
+    
+    public int getMoveInterpolationTicks() {
+        return config.getInt("performance.move-interpolation-ticks", 3);
+    }
+    
     // Default settings
     public String getDefaultBillboard() {
         return config.getString("defaults.billboard", "vertical");
@@ -147,6 +183,10 @@ public class ConfigManager {
         return config.getInt("placeholders.cache-duration", 30);
     }
     
+    public int getPlaceholderCacheMaxEntries() {
+        return config.getInt("placeholders.cache-max-entries", 10000);
+    }
+    
     // Animation settings
     public boolean isAnimationsEnabled() {
         return config.getBoolean("animations.enabled", true);
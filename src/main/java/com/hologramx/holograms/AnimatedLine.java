@@ -0,0 +1,37 @@
+package com.hologramx.holograms;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * Runtime state of an animated line: its precomputed frames and the frame its entity currently shows
+ */
+final class AnimatedLine {
+    
+    final LineTemplate template;
+    final LineAnimation animation;
+    private final Component[] frames;
+    private final long startTick;
+    int shownFrame = -1;
+    
+    AnimatedLine(LineTemplate template, LineAnimation animation, long startTick) {
+        this.template = template;
+        this.animation = animation;
+        this.frames = animation.buildFrames(template.getSource());
+        this.startTick = startTick;
+    }
+    
+    /**
+     * Whether these frames were built for the given text and animation
+     */
+    boolean matches(LineTemplate template, LineAnimation animation) {
+        return this.template == template && this.animation.equals(animation);
+    }
+    
+    int frameAt(long clock, int ticksPerFrame) {
+        return (int) (Math.max(0, clock - startTick) / ticksPerFrame % frames.length);
+    }
+    
+    Component getFrame(int frame) {
+        return frames[frame];
+    }
+}
@@ -0,0 +1,76 @@
+package com.hologramx.holograms;
+
+import com.hologramx.HologramX;
+import com.hologramx.scheduler.TaskScheduler;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared clock for line animations.
+ * Holograms with animated lines register while they are spawned; every animations.update-rate
+ * ticks each of them advances its lines and only pushes the ones whose frame changed.
+ * The clock ticks on the global thread, on Folia each hologram advances on its own region thread.
+ */
+public class AnimationEngine {
+    
+    private final HologramX plugin;
+    private final TaskScheduler scheduler;
+    private final Set<Hologram> animated = ConcurrentHashMap.newKeySet(); // Registered from region threads on Folia
+    private volatile long clock = 0;
+    
+    public AnimationEngine(HologramX plugin, TaskScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+    }
+    
+    public void start() {
+        scheduler.runGlobalTimer(this::tick, 1L, 1L);
+    }
+    
+    public boolean isEnabled() {
+        return plugin.getConfigManager().isAnimationsEnabled();
+    }
+    
+    /**
+     * Server ticks counted by the animation clock, animations measure their start against it
+     */
+    public long getClock() {
+        return clock;
+    }
+    
+    void register(Hologram hologram) {
+        animated.add(hologram);
+    }
+    
+    void unregister(Hologram hologram) {
+        animated.remove(hologram);
+    }
+    
+    /**
+     * Number of spawned holograms with at least one running animation
+     */
+    public int getAnimatedCount() {
+        return animated.size();
+    }
+    
+    public void clear() {
+        animated.clear();
+    }
+    
+    private void tick() {
+        long now = ++clock;
+        if (animated.isEmpty()) return;
+        
+        int updateRate = Math.max(1, plugin.getConfigManager().getAnimationUpdateRate());
+        if (now % updateRate != 0) return;
+        
+        for (Hologram hologram : animated) {
+            if (scheduler.isOwnedByCurrentThread(hologram.getLocation())) {
+                hologram.advanceAnimations(now, updateRate);
+            } else {
+                scheduler.runAt(hologram.getLocation(), () -> hologram.advanceAnimations(now, updateRate));
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.hologramx.holograms;
+
+/**
+ * Outcome of a bulk hologram operation, with the time spent in each of its passes
+ * @param affected Holograms created, deleted or edited
+ * @param skipped Entries left out, e.g. duplicate ids, missing worlds or unknown holograms
+ * @param prepareNanos Creating and indexing, unindexing, or looking up the holograms to edit
+ * @param editNanos Applying the edits on their owning threads, 0 for creates and deletes
+ * @param entityNanos Spawning, despawning or refreshing the entities
+ * @param saveNanos Snapshotting and queueing the single save
+ */
+public record BulkResult(int affected, int skipped, long prepareNanos, long editNanos, long entityNanos, long saveNanos) {
+    
+    public long totalNanos() {
+        return prepareNanos + editNanos + entityNanos + saveNanos;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%d affected, %d skipped in %.2f ms (prepare %.2f ms, edits %.2f ms, entities %.2f ms, save %.2f ms)",
+            affected, skipped, totalNanos() / 1e6, prepareNanos / 1e6, editNanos / 1e6, entityNanos / 1e6, saveNanos / 1e6);
+    }
+}
@@ -1,11 +1,18 @@
 package com.hologramx.holograms;
 
 import com.hologramx.HologramX;
+import com.hologramx.scheduler.TaskScheduler;
 import com.hologramx.utils.LocationUtils;
+import com.hologramx.utils.PerformanceMonitor;
+import io.papermc.paper.entity.TeleportFlag;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.JoinConfiguration;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.ItemDisplay;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.TextDisplay;
 import org.bukkit.util.Transformation;
@@ -16,6 +23,7 @@ import java.util.*;
 public class Hologram {
     
     private final String id;
+    private final String viewPermission; // hologramx.view.<id>, built once for PERMISSION visibility
     private HologramType type;
     private Location location;
     private int visibilityDistance;
@@ -25,6 +33,7 @@ public class Hologram {
     private float translationX, translationY, translationZ;
     private float shadowRadius, shadowStrength;
     private List<String> textLines;
+    private final List<LineTemplate> lineTemplates = new ArrayList<>();
     private List<Float> lineScaleX;  // Per-line scaling
     private List<Float> lineScaleY;
     private List<Float> lineScaleZ;
@@ -35,15 +44,40 @@ public class Hologram {
     private String background;
     private BillboardType billboard;
     private double lineSpacing; // Custom line spacing
+    private List<LineAnimation> lineAnimations; // Per-line animation, null for lines without one
+    private int animationSpeed; // Ticks per animation frame, 0 to follow animations.update-rate
+    private boolean mergeLines; // Render runs of equally scaled lines as one multiline entity
     
     // Runtime data
-    private final Set<UUID> viewers = new HashSet<>();
-    private final List<TextDisplay> displayEntities = new ArrayList<>();
+    private final BitSet viewers = new BitSet(); // Visibility engine slots of the players it is shown to
+    private ItemDisplay rootEntity; // Invisible anchor the line entities ride on, moving it moves the whole hologram
+    private final List<TextDisplay> displayEntities = new ArrayList<>(); // One per segment
+    private List<Segment> segments = new ArrayList<>(); // Lines shown by each display entity
+    private int[] lineSegments = new int[0]; // Segment index of each line
+    private final List<String> renderedText = new ArrayList<>(); // Last text pushed for each line
+    private final List<String> shownSources = new ArrayList<>(); // Raw text of each line when the entities were laid out
+    private final List<Component> renderedComponents = new ArrayList<>(); // Component of each pushed line
+    private final List<AnimatedLine> animatedLines = new ArrayList<>(); // Frames of the running animations
     private boolean loaded = false;
-    private long lastUpdate = 0;
+    private boolean spawnedPerViewer; // Whether the current entities were spawned hidden by default
+    private volatile long version = 1; // Bumped by every edit, only written by the owning thread
+    private volatile long savedVersion = 0; // Version of the snapshot last handed to persistence
+    private volatile Published published; // Read-only view for other threads
+    
+    // Spatial index bookkeeping, maintained by SpatialIndex
+    SpatialIndex index;
+    UUID indexedWorld;
+    long indexedChunk;
+    
+    // Pending text update, maintained by UpdateScheduler
+    UpdateScheduler.Entry updateEntry;
+    
+    // Whether the hologram is managed, maintained by HologramManager; until then its creator may configure it freely
+    volatile boolean registered;
     
     public Hologram(String id) {
         this.id = id;
+        this.viewPermission = "hologramx.view." + id;
         this.type = HologramType.TEXT;
         this.visibilityDistance = -1;
         this.visibility = VisibilityType.ALL;
@@ -63,52 +97,209 @@ public class Hologram {
         this.background = "transparent";
         this.billboard = BillboardType.VERTICAL;
         this.lineSpacing = 0.25; // Default line spacing
+        this.lineAnimations = new ArrayList<>();
+        this.animationSpeed = 0;
+        this.mergeLines = false;
     }
     
     public void spawn() {
         if (location == null || loaded) return;
+        if (handOffToOwner(this::spawn)) return;
+        
+        // Never force-load a chunk, the chunk listener spawns the hologram once its chunk loads
+        if (isDeferredByChunk()) return;
         
         despawn();
         
         if (type == HologramType.TEXT && !textLines.isEmpty()) {
+            PerformanceMonitor monitor = HologramX.getInstance().getPerformanceMonitor();
+            long start = monitor.start();
+            prepareAnimations();
             spawnTextDisplay();
+            monitor.record(PerformanceMonitor.Stage.SPAWN, start);
         }
         
         loaded = true;
+        
+        HologramManager manager = HologramX.getInstance().getHologramManager();
+        manager.getUpdateScheduler().schedule(this);
+        
+        // Let the visibility sweep pick up players that are already nearby
+        manager.getVisibilityEngine().markNearbyDirty(this);
     }
     
     private void spawnTextDisplay() {
-        Location spawnLoc = location.clone();
-        double currentYOffset = 0.0;
+        boolean perViewer = isPerViewer();
+        spawnedPerViewer = perViewer;
+        setSegments(computeSegments());
         
-        for (int i = 0; i < textLines.size(); i++) {
-            TextDisplay display = location.getWorld().spawn(spawnLoc, TextDisplay.class);
-            
-            // Set text content
-            String text = textLines.get(i);
-            if (HologramX.getInstance().getPlaceholderManager().isEnabled()) {
-                text = HologramX.getInstance().getPlaceholderManager().setPlaceholders(null, text);
-            }
-            
-            Component component = MiniMessage.miniMessage().deserialize(text);
-            display.text(component);
-            
-            // Apply display settings with per-line scaling
-            applyDisplaySettings(display, i);
-            
-            // Set position with simple line spacing
-            Location lineLocation = spawnLoc.clone();
-            lineLocation.add(0, currentYOffset, 0);
-            display.teleport(lineLocation);
-            
-            // Simple line spacing calculation - just use the line spacing property
-            currentYOffset -= lineSpacing;
+        rootEntity = location.getWorld().spawn(location, ItemDisplay.class, entity -> {
+            entity.setPersistent(false);
+            entity.setVisibleByDefault(!perViewer);
+            // Clients interpolate teleports of the root, the passengers follow it
+            entity.setTeleportDuration(getMoveInterpolation());
+        });
+        
+        for (int i = 0; i < segments.size(); i++) {
+            spawnSegment(i, perViewer);
+        }
+        shownSources.addAll(textLines);
+    }
+    
+    /**
+     * Spawns the entity of one segment and stores it at that index (appending when it is the next segment)
+     */
+    private TextDisplay spawnSegment(int segmentIndex, boolean perViewer) {
+        Segment segment = segments.get(segmentIndex);
+        for (int line = segment.first(); line < segment.end(); line++) {
+            renderLine(line);
+        }
+        Component component = getSegmentText(segment);
+        
+        // Configure the entity before it is added to the world so the spawn packet
+        // already carries the final metadata and hidden lines are never sent
+        TextDisplay display = location.getWorld().spawn(location, TextDisplay.class, entity -> {
+            entity.setPersistent(false);
+            entity.setVisibleByDefault(!perViewer);
+            entity.text(component);
             
+            // Apply display settings with per-line scaling, all lines of a segment share their scale
+            applyDisplaySettings(entity, segment);
+        });
+        rootEntity.addPassenger(display);
+        
+        if (segmentIndex < displayEntities.size()) {
+            displayEntities.set(segmentIndex, display);
+        } else {
             displayEntities.add(display);
         }
+        return display;
+    }
+    
+    /**
+     * Splits the lines into the runs rendered by one entity each: single lines, or with mergeLines
+     * every run of lines with the same scale
+     */
+    private List<Segment> computeSegments() {
+        List<Segment> result = new ArrayList<>();
+        int first = 0;
+        for (int i = 1; i <= textLines.size(); i++) {
+            if (i == textLines.size() || !mergeLines || !hasSameLineScale(first, i)) {
+                result.add(new Segment(first, i - first));
+                first = i;
+            }
+        }
+        return result;
+    }
+    
+    private boolean hasSameLineScale(int a, int b) {
+        return getLineScaleX(a) == getLineScaleX(b) && getLineScaleY(a) == getLineScaleY(b)
+            && getLineScaleZ(a) == getLineScaleZ(b);
+    }
+    
+    private void setSegments(List<Segment> segments) {
+        this.segments = segments;
+        this.lineSegments = new int[textLines.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            Arrays.fill(lineSegments, segment.first(), segment.end(), i);
+        }
+    }
+    
+    /**
+     * Vertical offset of a segment's text below the root. Multiline text grows upwards from its origin,
+     * so it sits on the segment's last line; line spacing only applies between segments, inside one the font decides.
+     */
+    private float getSegmentOffset(Segment segment) {
+        // Simple line spacing calculation - just use the line spacing property
+        return (float) (-(segment.end() - 1) * lineSpacing);
+    }
+    
+    private int getMoveInterpolation() {
+        // Teleport durations above 59 ticks are clamped by the client
+        return Math.max(0, Math.min(59, HologramX.getInstance().getConfigManager().getMoveInterpolationTicks()));
+    }
+    
+    private Component getSegmentText(Segment segment) {
+        if (segment.count() == 1) {
+            return renderedComponents.get(segment.first());
+        }
+        return Component.join(JoinConfiguration.newlines(), renderedComponents.subList(segment.first(), segment.end()));
+    }
+    
+    /**
+     * The entity showing a line, or null if the line has none (yet)
+     */
+    private TextDisplay getLineEntity(int line) {
+        if (line >= lineSegments.length || lineSegments[line] >= displayEntities.size()) return null;
+        
+        TextDisplay display = displayEntities.get(lineSegments[line]);
+        return display != null && display.isValid() ? display : null;
+    }
+    
+    /**
+     * Rebuilds the text of the entity showing a line from the rendered components of its segment
+     */
+    private void pushLine(int line, TextDisplay display) {
+        display.text(getSegmentText(segments.get(lineSegments[line])));
+        HologramX.getInstance().getHologramManager().getRenderStats().recordApplied();
+    }
+    
+    /**
+     * Renders a line for the global context into the rendered lists without touching its entity.
+     * Animated lines take their current frame.
+     */
+    private void renderLine(int line) {
+        AnimatedLine animated = getAnimatedLine(line);
+        if (animated != null) {
+            AnimationEngine engine = HologramX.getInstance().getHologramManager().getAnimationEngine();
+            animated.shownFrame = animated.frameAt(engine.getClock(), getTicksPerFrame());
+            setRendered(line, null, animated.getFrame(animated.shownFrame));
+        } else {
+            LineTemplate template = getLineTemplate(line);
+            String resolved = template.resolve(null);
+            setRendered(line, resolved, template.toComponent(resolved));
+        }
+    }
+    
+    private void setRendered(int line, String text, Component component) {
+        while (renderedText.size() <= line) {
+            renderedText.add(null);
+            renderedComponents.add(Component.empty());
+        }
+        renderedText.set(line, text);
+        renderedComponents.set(line, component);
+    }
+    
+    private String getRenderedText(int line) {
+        return line < renderedText.size() ? renderedText.get(line) : null;
+    }
+    
+    /**
+     * Whether the hologram's chunk is loaded, computed from block coordinates without touching the chunk
+     */
+    public boolean isChunkLoaded() {
+        return location != null && location.getWorld() != null
+            && location.getWorld().isChunkLoaded(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+    
+    private boolean isDeferredByChunk() {
+        return HologramX.getInstance().getConfigManager().isChunkLoadingEnabled() && !isChunkLoaded();
     }
     
-    private void applyDisplaySettings(TextDisplay display, int lineIndex) {
+    /**
+     * Whether the line entities are hidden by default and only shown to tracked viewers.
+     * PERMISSION and NONE holograms always render per viewer so they can really be hidden.
+     */
+    private boolean isPerViewer() {
+        return HologramX.getInstance().getHologramManager().getRenderMode() == RenderMode.PER_PLAYER
+            || visibility == VisibilityType.PERMISSION
+            || visibility == VisibilityType.NONE;
+    }
+    
+    private void applyDisplaySettings(TextDisplay display, Segment segment) {
+        int lineIndex = segment.first();
+        
         // Set billboard
         switch (billboard) {
             case FIXED -> display.setBillboard(Display.Billboard.FIXED);
@@ -141,13 +332,13 @@ public class Hologram {
         display.setShadowed(textShadow);
         display.setSeeThrough(false); // Always disable see-through to prevent xray effect
         
-        // Set transformation with per-line scaling
+        // Set transformation with per-line scaling, lines ride on the root and are placed by their translation
         float finalScaleX = scaleX * getLineScaleX(lineIndex);
         float finalScaleY = scaleY * getLineScaleY(lineIndex);
         float finalScaleZ = scaleZ * getLineScaleZ(lineIndex);
         
         Vector3f scale = new Vector3f(finalScaleX, finalScaleY, finalScaleZ);
-        Vector3f translation = new Vector3f(translationX, translationY, translationZ);
+        Vector3f translation = new Vector3f(translationX, translationY + getSegmentOffset(segment), translationZ);
         Transformation transformation = new Transformation(translation, 
             new org.joml.Quaternionf(), scale, new org.joml.Quaternionf());
         display.setTransformation(transformation);
@@ -167,95 +358,275 @@ public class Hologram {
     }
 
     
+    /**
+     * On Folia, hands a call made from another region's thread to the region owning the hologram.
+     * Returns true if the call was handed off; on Paper everything already runs on the owning main thread.
+     */
+    private boolean handOffToOwner(Runnable call) {
+        TaskScheduler scheduler = HologramX.getInstance().getTaskScheduler();
+        if (!scheduler.isRegionized() || scheduler.isOwnedByCurrentThread(location)) return false;
+        
+        scheduler.runAt(location, call);
+        return true;
+    }
+    
+    /**
+     * Removes an entity on the thread that owns it, which on Folia may be another region's
+     */
+    private static void removeEntity(Entity entity) {
+        if (entity == null || !entity.isValid()) return;
+        
+        TaskScheduler scheduler = HologramX.getInstance().getTaskScheduler();
+        if (scheduler.isOwnedByCurrentThread(entity)) {
+            entity.remove();
+        } else {
+            scheduler.runAt(entity, entity::remove);
+        }
+    }
+    
     public void despawn() {
-        displayEntities.forEach(entity -> {
-            if (entity != null && entity.isValid()) {
-                entity.remove();
-            }
-        });
+        HologramManager manager = HologramX.getInstance().getHologramManager();
+        if (updateEntry != null) {
+            manager.getUpdateScheduler().cancel(this);
+        }
+        if (!animatedLines.isEmpty()) {
+            manager.getAnimationEngine().unregister(this);
+            animatedLines.clear();
+        }
+        
+        displayEntities.forEach(Hologram::removeEntity);
         displayEntities.clear();
+        removeEntity(rootEntity);
+        rootEntity = null;
+        setSegments(new ArrayList<>());
+        shownSources.clear();
+        renderedText.clear();
+        renderedComponents.clear();
         viewers.clear();
         loaded = false;
     }
     
+    /**
+     * Updates the dynamic lines right away on the calling (main) thread
+     */
     public void updateText() {
-        if (!loaded || displayEntities.isEmpty()) return;
-        
-        for (int i = 0; i < Math.min(textLines.size(), displayEntities.size()); i++) {
-            TextDisplay display = displayEntities.get(i);
-            if (display != null && display.isValid()) {
-                String text = textLines.get(i);
+        List<RenderPipeline.Job> changed = new ArrayList<>();
+        collectChangedLines(changed);
+        for (RenderPipeline.Job job : changed) {
+            job.render();
+            applyRenderedLine(job);
+        }
+    }
+    
+    /**
+     * Resolves the dynamic lines and adds the ones whose text changed to the batch, without rendering them
+     */
+    void collectChangedLines(List<RenderPipeline.Job> batch) {
+        PerformanceMonitor monitor = HologramX.getInstance().getPerformanceMonitor();
+        long start = monitor.start();
+        try {
+            if (!loaded || displayEntities.isEmpty()) return;
+            
+            RenderStats stats = HologramX.getInstance().getHologramManager().getRenderStats();
+            for (int i = 0; i < Math.min(textLines.size(), renderedText.size()); i++) {
+                LineTemplate template = getLineTemplate(i);
                 
-                // Apply placeholders
-                if (HologramX.getInstance().getPlaceholderManager().isEnabled()) {
-                    text = HologramX.getInstance().getPlaceholderManager().setPlaceholders(null, text);
-                }
+                // Static lines were fully rendered at spawn and never change, animated ones belong to the animation engine
+                if (template.isStatic() || getAnimatedLine(i) != null || getLineEntity(i) == null) continue;
                 
-                Component component = MiniMessage.miniMessage().deserialize(text);
-                display.text(component);
+                String resolved = template.resolve(null);
+                if (resolved.equals(renderedText.get(i))) {
+                    stats.recordSuppressed();
+                } else {
+                    batch.add(new RenderPipeline.Job(this, i, template, resolved));
+                }
             }
+        } finally {
+            monitor.record(PerformanceMonitor.Stage.UPDATE_TEXT, start);
+        }
+    }
+    
+    /**
+     * Pushes a rendered line to its entity, unless the line was edited or despawned while it was rendering
+     */
+    void applyRenderedLine(RenderPipeline.Job job) {
+        int index = job.index;
+        if (!loaded || index >= renderedText.size() || index >= textLines.size()
+            || getLineTemplate(index) != job.template || getAnimatedLine(index) != null) {
+            return;
         }
         
-        lastUpdate = System.currentTimeMillis();
+        TextDisplay display = getLineEntity(index);
+        if (display == null) return;
+        
+        if (job.resolved.equals(renderedText.get(index))) {
+            HologramX.getInstance().getHologramManager().getRenderStats().recordSuppressed();
+            return;
+        }
+        
+        setRendered(index, job.resolved, job.component);
+        pushLine(index, display);
     }
     
+    /**
+     * Queues a visibility re-check for the player, done by the visibility engine's next sweeps
+     */
     public void updateForPlayer(Player player) {
-        if (!canView(player)) {
-            if (viewers.contains(player.getUniqueId())) {
-                hideFromPlayer(player);
+        HologramX.getInstance().getHologramManager().getVisibilityEngine().markDirty(player);
+    }
+    
+    /**
+     * Shows or hides the hologram for a player at the given position.
+     * Sweeps only visit the player's world partition, so the world is not checked again here.
+     * The line entities are shared by all viewers, so their text is resolved for the global
+     * context by the update scheduler and never for one player.
+     */
+    void updateForPlayer(Player player, int slot, double x, double y, double z) {
+        PerformanceMonitor monitor = HologramX.getInstance().getPerformanceMonitor();
+        long start = monitor.start();
+        try {
+            boolean viewing = viewers.get(slot);
+            double range = visibilityDistance > 0 ? visibilityDistance
+                : HologramX.getInstance().getHologramManager().getVisibilityEngine().getViewDistance();
+            if (!isInRange(x, y, z, range, viewing) || !canViewType(player, true)) {
+                if (viewing) {
+                    hideFromPlayer(player, slot);
+                }
+                return;
             }
-            return;
+            
+            if (!viewing) {
+                showToPlayer(player, slot);
+            }
+        } finally {
+            monitor.record(PerformanceMonitor.Stage.UPDATE_FOR_PLAYER, start);
+        }
+    }
+    
+    private void showToPlayer(Player player, int slot) {
+        synchronized (viewers) {
+            viewers.set(slot);
         }
         
-        if (!viewers.contains(player.getUniqueId())) {
-            showToPlayer(player);
+        // Shared entities are visible by default and tracked by range, only the viewer bit is kept
+        if (!spawnedPerViewer) return;
+        
+        HologramX plugin = HologramX.getInstance();
+        if (rootEntity != null && rootEntity.isValid()) {
+            player.showEntity(plugin, rootEntity);
         }
+        for (TextDisplay display : displayEntities) {
+            if (display != null && display.isValid()) {
+                player.showEntity(plugin, display);
+            }
+        }
+    }
+    
+    private void hideFromPlayer(Player player, int slot) {
+        synchronized (viewers) {
+            viewers.clear(slot);
+        }
+        if (!spawnedPerViewer) return;
         
-        // Update text with player-specific placeholders
-        if (HologramX.getInstance().getPlaceholderManager().isEnabled()) {
-            for (int i = 0; i < Math.min(textLines.size(), displayEntities.size()); i++) {
-                TextDisplay display = displayEntities.get(i);
-                if (display != null && display.isValid()) {
-                    String text = textLines.get(i);
-                    text = HologramX.getInstance().getPlaceholderManager().setPlaceholders(player, text);
-                    Component component = MiniMessage.miniMessage().deserialize(text);
-                    display.text(component);
-                }
+        // Hidden entities are untracked for this player only, nothing is sent to them anymore
+        HologramX plugin = HologramX.getInstance();
+        for (TextDisplay display : displayEntities) {
+            if (display != null && display.isValid()) {
+                player.hideEntity(plugin, display);
             }
         }
+        if (rootEntity != null && rootEntity.isValid()) {
+            player.hideEntity(plugin, rootEntity);
+        }
     }
     
-    private void showToPlayer(Player player) {
-        viewers.add(player.getUniqueId());
-        // Display entities are automatically visible to all players
-        // This method is for tracking purposes
+    /**
+     * Hides the hologram from a player regardless of canView, used when it leaves their sweep range
+     */
+    void removeViewer(Player player, int slot) {
+        if (viewers.get(slot)) {
+            hideFromPlayer(player, slot);
+        }
     }
     
-    private void hideFromPlayer(Player player) {
-        viewers.remove(player.getUniqueId());
-        // We can't hide display entities from specific players
-        // This would require per-player spawning which is more complex
+    /**
+     * Forgets a slot without touching any entity, used when the slot is handed to another player
+     */
+    void clearViewerSlot(int slot) {
+        synchronized (viewers) {
+            viewers.clear(slot);
+        }
     }
     
-    public boolean canView(Player player) {
-        // Check visibility distance
-        if (visibilityDistance > 0 && location != null) {
-            double distance = player.getLocation().distance(location);
-            if (distance > visibilityDistance) {
-                return false;
+    boolean isViewer(int slot) {
+        return viewers.get(slot);
+    }
+    
+    public boolean isViewer(Player player) {
+        int slot = HologramX.getInstance().getHologramManager().getVisibilityEngine().findSlot(player);
+        return slot >= 0 && viewers.get(slot);
+    }
+    
+    /**
+     * Online players the hologram is currently shown to
+     */
+    public List<Player> getViewerPlayers() {
+        VisibilityEngine engine = HologramX.getInstance().getHologramManager().getVisibilityEngine();
+        List<Player> players = new ArrayList<>(viewers.cardinality());
+        for (int slot = viewers.nextSetBit(0); slot >= 0; slot = viewers.nextSetBit(slot + 1)) {
+            Player player = engine.getPlayer(slot);
+            if (player != null) {
+                players.add(player);
             }
         }
+        return players;
+    }
+    
+    /**
+     * Re-sends the current line entities to every online viewer, used after the entities were recreated
+     */
+    private void showToViewers(List<Player> players) {
+        VisibilityEngine engine = HologramX.getInstance().getHologramManager().getVisibilityEngine();
+        for (Player player : players) {
+            if (player.isOnline() && canView(player)) {
+                showToPlayer(player, engine.getSlot(player));
+            }
+        }
+    }
+    
+    public boolean canView(Player player) {
+        Location loc = player.getLocation();
+        boolean sameWorld = location != null && loc.getWorld() != null && loc.getWorld().equals(location.getWorld());
+        if (visibilityDistance > 0 && (!sameWorld || !isInRange(loc.getX(), loc.getY(), loc.getZ(), visibilityDistance, isViewer(player)))) {
+            return false;
+        }
+        return canViewType(player, sameWorld);
+    }
+    
+    /**
+     * Distance check on plain coordinates in the hologram's world, a negative range means unlimited. Players already
+     * viewing are only dropped past range plus performance.visibility-hysteresis, so standing on the edge doesn't flicker.
+     */
+    private boolean isInRange(double x, double y, double z, double range, boolean viewing) {
+        if (range < 0) return true;
         
-        // Check visibility type
+        double limit = viewing ? range + HologramX.getInstance().getHologramManager().getVisibilityEngine().getHysteresis() : range;
+        double dx = x - location.getX();
+        double dy = y - location.getY();
+        double dz = z - location.getZ();
+        return dx * dx + dy * dy + dz * dz <= limit * limit;
+    }
+    
+    private boolean canViewType(Player player, boolean sameWorld) {
         switch (visibility) {
             case ALL -> {
                 return true;
             }
             case PERMISSION -> {
-                return player.hasPermission("hologramx.view." + id);
+                return HologramX.getInstance().getHologramManager().getVisibilityEngine().hasPermission(player, viewPermission);
             }
             case WORLD -> {
-                return player.getWorld().equals(location.getWorld());
+                return sameWorld;
             }
             case NONE -> {
                 return false;
@@ -265,11 +636,6 @@ public class Hologram {
         return true;
     }
     
-    public boolean needsUpdate() {
-        return updateTextInterval > 0 && 
-               System.currentTimeMillis() - lastUpdate >= updateTextInterval * 50L;
-    }
-    
     // Helper methods for per-line scaling
     public float getLineScaleX(int lineIndex) {
         if (lineIndex >= 0 && lineIndex < lineScaleX.size()) {
@@ -293,6 +659,7 @@ public class Hologram {
     }
     
     public void setLineScale(int lineIndex, float scaleX, float scaleY, float scaleZ) {
+        checkOwner();
         ensureLineScaleSize(lineIndex + 1);
         if (lineIndex >= 0) {
             // Validate scale values to prevent extreme distortions
@@ -303,6 +670,7 @@ public class Hologram {
             lineScaleX.set(lineIndex, scaleX);
             lineScaleY.set(lineIndex, scaleY);
             lineScaleZ.set(lineIndex, scaleZ);
+            markDirty();
         }
     }
     
@@ -318,104 +686,683 @@ public class Hologram {
             lineScaleY.add(1.0f);
             lineScaleZ.add(1.0f);
         }
+        while (lineAnimations.size() < size) {
+            lineAnimations.add(null);
+        }
+    }
+    
+    public LineAnimation getLineAnimation(int lineIndex) {
+        if (lineIndex >= 0 && lineIndex < lineAnimations.size()) {
+            return lineAnimations.get(lineIndex);
+        }
+        return null;
+    }
+    
+    /**
+     * Sets or, with null, removes the animation of a line. Takes effect on the next refresh.
+     */
+    public void setLineAnimation(int lineIndex, LineAnimation animation) {
+        checkOwner();
+        if (lineIndex < 0) return;
+        
+        ensureLineScaleSize(lineIndex + 1);
+        lineAnimations.set(lineIndex, animation);
+        markDirty();
+    }
+    
+    /**
+     * Number of lines with an animation
+     */
+    public int getAnimationCount() {
+        int count = 0;
+        for (int i = 0; i < Math.min(textLines.size(), lineAnimations.size()); i++) {
+            if (lineAnimations.get(i) != null) count++;
+        }
+        return count;
+    }
+    
+    /**
+     * Returns the compiled template of a line, recompiling it if the raw text was replaced
+     */
+    public LineTemplate getLineTemplate(int index) {
+        String text = textLines.get(index);
+        while (lineTemplates.size() <= index) {
+            lineTemplates.add(null);
+        }
+        
+        LineTemplate template = lineTemplates.get(index);
+        if (template == null || template.getSource() != text) {
+            template = LineTemplate.compile(text);
+            lineTemplates.set(index, template);
+        }
+        return template;
+    }
+    
+    private void compileTextLines() {
+        lineTemplates.clear();
+        for (String text : textLines) {
+            lineTemplates.add(LineTemplate.compile(text));
+        }
     }
     
     public void addTextLine(String text) {
+        checkOwner();
         textLines.add(text);
+        lineTemplates.add(LineTemplate.compile(text));
         ensureLineScaleSize(textLines.size());
+        markDirty();
     }
     
     public void setTextLine(int index, String text) {
+        checkOwner();
         if (index >= 0 && index < textLines.size()) {
             textLines.set(index, text);
+            getLineTemplate(index);
+            markDirty();
         }
     }
     
     public void insertTextLine(int index, String text) {
+        checkOwner();
         if (index >= 0 && index <= textLines.size()) {
             textLines.add(index, text);
+            if (index <= lineTemplates.size()) {
+                lineTemplates.add(index, LineTemplate.compile(text));
+            }
             lineScaleX.add(index, 1.0f);
             lineScaleY.add(index, 1.0f);
             lineScaleZ.add(index, 1.0f);
+            if (index <= lineAnimations.size()) {
+                lineAnimations.add(index, null);
+            }
+            markDirty();
         }
     }
     
     public void removeTextLine(int index) {
+        checkOwner();
         if (index >= 0 && index < textLines.size()) {
             textLines.remove(index);
+            if (index < lineTemplates.size()) {
+                lineTemplates.remove(index);
+            }
             if (index < lineScaleX.size()) {
                 lineScaleX.remove(index);
                 lineScaleY.remove(index);
                 lineScaleZ.remove(index);
             }
+            if (index < lineAnimations.size()) {
+                lineAnimations.remove(index);
+            }
+            markDirty();
         }
     }
     
     public void clearTextLines() {
+        checkOwner();
         textLines.clear();
+        lineTemplates.clear();
         lineScaleX.clear();
         lineScaleY.clear();
         lineScaleZ.clear();
+        lineAnimations.clear();
+        markDirty();
     }
     
     /**
-     * Refreshes the hologram display after changes to text or scaling
+     * Refreshes the hologram display after changes to text, scaling or position.
+     * Existing entities are reused in place; only segments that were added or removed
+     * spawn or remove an entity. Falls back to a full respawn when the world changed.
      */
     public void refresh() {
-        if (loaded) {
+        if (!Bukkit.isPrimaryThread()) {
+            throw new IllegalStateException("Hologram " + id + " can only be edited on the main thread, use HologramXAPI#editHologram");
+        }
+        
+        if (handOffToOwner(this::refresh)) return;
+        
+        // Every edit ends in a refresh
+        markDirty();
+        publishSnapshot();
+        if (!loaded) return;
+        
+        // A root left behind in another region (Folia) can't be teleported from here, it is respawned instead.
+        // Switching between shared and per-viewer rendering respawns too, so no per-player visibility is left over.
+        if (type != HologramType.TEXT || textLines.isEmpty() || location == null || location.getWorld() == null
+            || rootEntity == null || !rootEntity.isValid() || !isInSameWorld() || isPerViewer() != spawnedPerViewer
+            || !HologramX.getInstance().getTaskScheduler().isOwnedByCurrentThread(rootEntity)) {
+            List<Player> previousViewers = getViewerPlayers();
             despawn();
             spawn();
+            showToViewers(previousViewers);
+            return;
+        }
+        
+        // Moved into an unloaded chunk, wait for it to load instead of dragging the entities there
+        if (isDeferredByChunk()) {
+            despawn();
+            return;
+        }
+        
+        // Lines are matched to their previous position by content, so inserting or removing a line
+        // only spawns or removes that line's entity instead of re-texting every line below it
+        List<Segment> previousSegments = segments;
+        int[] previousLineSegments = lineSegments;
+        int[] previousLines = matchPreviousLines();
+        setSegments(computeSegments());
+        boolean[] unchanged = assignEntities(previousSegments, previousLineSegments, previousLines);
+        remapRenderedLines(previousLines);
+        
+        // Rebuild the frames of animations that were added or whose line text changed
+        prepareAnimations();
+        
+        HologramX plugin = HologramX.getInstance();
+        RenderStats stats = plugin.getHologramManager().getRenderStats();
+        boolean perViewer = isPerViewer();
+        
+        // Moving is a single teleport of the root, the lines stay mounted and clients interpolate the motion
+        rootEntity.setTeleportDuration(getMoveInterpolation());
+        if (!rootEntity.getLocation().equals(location)) {
+            rootEntity.teleport(location, TeleportFlag.EntityState.RETAIN_PASSENGERS);
+        }
+        
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            
+            TextDisplay display = i < displayEntities.size() ? displayEntities.get(i) : null;
+            if (display == null || !display.isValid()) {
+                display = spawnSegment(i, perViewer);
+                if (perViewer) {
+                    for (Player player : getViewerPlayers()) {
+                        player.showEntity(plugin, display);
+                    }
+                }
+                continue;
+            }
+            
+            // Entity data setters only mark a value dirty when it differs, so re-applying
+            // the settings sends just the properties that actually changed
+            applyDisplaySettings(display, segment);
+            
+            // Passengers keep their own rotation, which FIXED and partially fixed billboards render with
+            Location displayLocation = display.getLocation();
+            if (displayLocation.getYaw() != location.getYaw() || displayLocation.getPitch() != location.getPitch()) {
+                display.setRotation(location.getYaw(), location.getPitch());
+            }
+            
+            // Only touch the text if one of its lines changed or the entity showed other lines before
+            boolean changed = !unchanged[i];
+            for (int line = segment.first(); line < segment.end(); line++) {
+                changed |= updateRenderedLine(line);
+            }
+            if (changed) {
+                display.text(getSegmentText(segment));
+                stats.recordApplied();
+            } else {
+                stats.recordSuppressed();
+            }
+        }
+        shownSources.clear();
+        shownSources.addAll(textLines);
+    }
+    
+    /**
+     * For each line, the index it had when the entities were last laid out, or -1 if it is new or was edited.
+     * Lines with the same text are matched in order.
+     */
+    private int[] matchPreviousLines() {
+        Map<String, ArrayDeque<Integer>> previous = new HashMap<>();
+        for (int i = 0; i < shownSources.size(); i++) {
+            previous.computeIfAbsent(shownSources.get(i), text -> new ArrayDeque<>()).add(i);
+        }
+        
+        int[] matches = new int[textLines.size()];
+        for (int i = 0; i < matches.length; i++) {
+            ArrayDeque<Integer> candidates = previous.get(textLines.get(i));
+            matches[i] = candidates != null && !candidates.isEmpty() ? candidates.poll() : -1;
+        }
+        return matches;
+    }
+    
+    /**
+     * Reorders the entities for the new segments: a segment keeps the entity that already shows exactly its lines,
+     * the others take the remaining entities in order and entities left over are removed.
+     * Returns for each segment whether its entity already shows its lines.
+     */
+    private boolean[] assignEntities(List<Segment> previousSegments, int[] previousLineSegments, int[] previousLines) {
+        List<TextDisplay> previousEntities = new ArrayList<>(displayEntities);
+        boolean[] claimed = new boolean[previousEntities.size()];
+        boolean[] unchanged = new boolean[segments.size()];
+        TextDisplay[] assigned = new TextDisplay[segments.size()];
+        
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            int first = previousLines[segment.first()];
+            if (first < 0 || first >= previousLineSegments.length) continue;
+            
+            int previous = previousLineSegments[first];
+            if (previous >= previousEntities.size() || claimed[previous]
+                || !previousSegments.get(previous).equals(new Segment(first, segment.count()))) {
+                continue;
+            }
+            boolean sameLines = true;
+            for (int offset = 1; offset < segment.count(); offset++) {
+                sameLines &= previousLines[segment.first() + offset] == first + offset;
+            }
+            TextDisplay display = previousEntities.get(previous);
+            if (!sameLines || display == null || !display.isValid()) continue;
+            
+            claimed[previous] = true;
+            assigned[i] = display;
+            unchanged[i] = true;
+        }
+        
+        int next = 0;
+        for (int i = 0; i < assigned.length; i++) {
+            if (assigned[i] != null) continue;
+            
+            while (next < claimed.length && (claimed[next] || previousEntities.get(next) == null
+                || !previousEntities.get(next).isValid())) {
+                next++;
+            }
+            if (next == claimed.length) break;
+            
+            claimed[next] = true;
+            assigned[i] = previousEntities.get(next);
+        }
+        
+        for (int i = 0; i < claimed.length; i++) {
+            if (!claimed[i]) {
+                removeEntity(previousEntities.get(i));
+            }
+        }
+        displayEntities.clear();
+        Collections.addAll(displayEntities, assigned);
+        return unchanged;
+    }
+    
+    /**
+     * Moves the rendered text and running animation of each line to its new index, new lines start unrendered
+     */
+    private void remapRenderedLines(int[] previousLines) {
+        List<String> texts = new ArrayList<>(previousLines.length);
+        List<Component> components = new ArrayList<>(previousLines.length);
+        List<AnimatedLine> animations = new ArrayList<>(previousLines.length);
+        for (int previous : previousLines) {
+            boolean rendered = previous >= 0 && previous < renderedText.size();
+            texts.add(rendered ? renderedText.get(previous) : null);
+            components.add(rendered ? renderedComponents.get(previous) : Component.empty());
+            animations.add(previous >= 0 && previous < animatedLines.size() ? animatedLines.get(previous) : null);
+        }
+        
+        renderedText.clear();
+        renderedText.addAll(texts);
+        renderedComponents.clear();
+        renderedComponents.addAll(components);
+        animatedLines.clear();
+        animatedLines.addAll(animations);
+    }
+    
+    /**
+     * Re-renders a line for the global context, returning whether it differs from what was pushed before
+     */
+    private boolean updateRenderedLine(int line) {
+        AnimatedLine animated = getAnimatedLine(line);
+        if (animated != null) {
+            AnimationEngine engine = HologramX.getInstance().getHologramManager().getAnimationEngine();
+            int frame = animated.frameAt(engine.getClock(), getTicksPerFrame());
+            if (frame == animated.shownFrame) return false;
+            
+            animated.shownFrame = frame;
+            setRendered(line, null, animated.getFrame(frame));
+            return true;
+        }
+        
+        LineTemplate template = getLineTemplate(line);
+        String resolved = template.resolve(null);
+        if (resolved.equals(getRenderedText(line))) return false;
+        
+        setRendered(line, resolved, template.toComponent(resolved));
+        return true;
+    }
+    
+    /**
+     * Builds the frames of every line with an animation, keeping the ones that are still current.
+     * Registers the hologram with the animation engine while it has any running animation.
+     */
+    private void prepareAnimations() {
+        AnimationEngine engine = HologramX.getInstance().getHologramManager().getAnimationEngine();
+        boolean animated = false;
+        
+        for (int i = 0; i < textLines.size(); i++) {
+            LineAnimation animation = engine.isEnabled() ? getLineAnimation(i) : null;
+            AnimatedLine line = getAnimatedLine(i);
+            if (animation == null) {
+                line = null;
+            } else if (line == null || !line.matches(getLineTemplate(i), animation)) {
+                line = new AnimatedLine(getLineTemplate(i), animation, engine.getClock());
+            }
+            
+            if (i < animatedLines.size()) {
+                animatedLines.set(i, line);
+            } else {
+                animatedLines.add(line);
+            }
+            animated |= line != null;
+        }
+        while (animatedLines.size() > textLines.size()) {
+            animatedLines.remove(animatedLines.size() - 1);
+        }
+        
+        if (animated) {
+            engine.register(this);
+        } else {
+            engine.unregister(this);
+            animatedLines.clear();
+        }
+    }
+    
+    private AnimatedLine getAnimatedLine(int index) {
+        return index < animatedLines.size() ? animatedLines.get(index) : null;
+    }
+    
+    private int getTicksPerFrame() {
+        return Math.max(Math.max(1, HologramX.getInstance().getConfigManager().getAnimationUpdateRate()), animationSpeed);
+    }
+    
+    /**
+     * Moves the animated lines to the frame for the given clock, called by the animation engine
+     */
+    void advanceAnimations(long clock, int updateRate) {
+        if (!loaded) return;
+        
+        int ticksPerFrame = Math.max(updateRate, animationSpeed);
+        for (int i = 0; i < Math.min(animatedLines.size(), renderedText.size()); i++) {
+            AnimatedLine line = animatedLines.get(i);
+            TextDisplay display = getLineEntity(i);
+            if (line == null || display == null) continue;
+            
+            // Skip the entity if the frame did not change
+            int frame = line.frameAt(clock, ticksPerFrame);
+            if (frame == line.shownFrame) continue;
+            
+            line.shownFrame = frame;
+            // No rendered text, so the line is pushed again if its animation is removed
+            setRendered(i, null, line.getFrame(frame));
+            pushLine(i, display);
+        }
+    }
+    
+    private boolean isInSameWorld() {
+        for (TextDisplay display : displayEntities) {
+            if (display != null && display.isValid() && !display.getWorld().equals(location.getWorld())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Registered holograms may only be changed on the thread owning them (the main thread, or the hologram's
+     * region on Folia); other threads go through HologramXAPI#editHologram or HologramBuilder
+     */
+    private void checkOwner() {
+        if (registered && !HologramX.getInstance().getTaskScheduler().isOwnedByCurrentThread(location)) {
+            throw new IllegalStateException("Hologram " + id + " can only be edited on its owning thread, use HologramXAPI#editHologram");
         }
     }
+    
+    /**
+     * Flags the hologram for the next write-behind save
+     */
+    public void markDirty() {
+        version++;
+    }
+    
+    public boolean isDirty() {
+        return savedVersion != version;
+    }
+    
+    void clearDirty() {
+        savedVersion = version;
+    }
+    
+    /**
+     * Snapshot for the write-behind save, or null if nothing newer than the last saved one was published.
+     * The version saved is the snapshot's own, so an edit made after it was captured keeps the hologram dirty.
+     */
+    HologramDefinition takeSnapshotToSave() {
+        Published current = getPublished();
+        if (current == null || current.version() == savedVersion) return null;
+        
+        savedVersion = current.version();
+        return current.definition();
+    }
+    
+    /**
+     * The last published snapshot, safe to read from any thread without locking. On the owning thread a
+     * stale snapshot is rebuilt first, other threads see the state as of the last edit's refresh.
+     */
+    public HologramDefinition getSnapshot() {
+        Published current = getPublished();
+        return current != null ? current.definition() : null;
+    }
+    
+    private Published getPublished() {
+        Published current = published;
+        if ((current == null || current.version() != version)
+            && HologramX.getInstance().getTaskScheduler().isOwnedByCurrentThread(location)) {
+            publishSnapshot();
+            current = published;
+        }
+        return current;
+    }
+    
+    void publishSnapshot() {
+        long captured = version;
+        published = new Published(snapshot(), captured);
+    }
+    
+    /**
+     * Captures the persisted state as an immutable definition that can be serialized off the main thread
+     */
+    public HologramDefinition snapshot() {
+        boolean hasLocation = location != null && location.getWorld() != null;
+        
+        int lines = textLines.size();
+        List<Float> scalesX = new ArrayList<>(lines);
+        List<Float> scalesY = new ArrayList<>(lines);
+        List<Float> scalesZ = new ArrayList<>(lines);
+        List<String> animations = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            scalesX.add(getLineScaleX(i));
+            scalesY.add(getLineScaleY(i));
+            scalesZ.add(getLineScaleZ(i));
+            LineAnimation animation = getLineAnimation(i);
+            animations.add(animation != null ? animation.toString() : "");
+        }
+        
+        return new HologramDefinition(
+            id,
+            type,
+            hasLocation ? location.getWorld().getName() : null,
+            hasLocation ? location.getX() : 0,
+            hasLocation ? location.getY() : 0,
+            hasLocation ? location.getZ() : 0,
+            hasLocation ? location.getYaw() : 0,
+            hasLocation ? location.getPitch() : 0,
+            visibilityDistance,
+            visibility,
+            persistent,
+            scaleX, scaleY, scaleZ,
+            translationX, translationY, translationZ,
+            shadowRadius, shadowStrength,
+            textLines,
+            scalesX, scalesY, scalesZ,
+            textShadow,
+            seeThrough,
+            textAlignment,
+            updateTextInterval,
+            background,
+            billboard,
+            lineSpacing,
+            animations,
+            animationSpeed,
+            mergeLines
+        );
+    }
+    
+    /**
+     * Creates a hologram from a stored definition. The world is only used if the definition has a location.
+     */
+    public static Hologram fromDefinition(HologramDefinition definition, World world) {
+        Hologram hologram = new Hologram(definition.id());
+        hologram.setType(definition.type());
+        if (definition.hasLocation()) {
+            hologram.setLocation(new Location(world, definition.x(), definition.y(), definition.z(),
+                definition.yaw(), definition.pitch()));
+        }
+        
+        hologram.setVisibilityDistance(definition.visibilityDistance());
+        hologram.setVisibility(definition.visibility());
+        hologram.setPersistent(definition.persistent());
+        hologram.setScaleX(definition.scaleX());
+        hologram.setScaleY(definition.scaleY());
+        hologram.setScaleZ(definition.scaleZ());
+        hologram.setTranslationX(definition.translationX());
+        hologram.setTranslationY(definition.translationY());
+        hologram.setTranslationZ(definition.translationZ());
+        hologram.setShadowRadius(definition.shadowRadius());
+        hologram.setShadowStrength(definition.shadowStrength());
+        
+        if (definition.type() == HologramType.TEXT) {
+            hologram.setTextLines(new ArrayList<>(definition.textLines()));
+            hologram.setTextShadow(definition.textShadow());
+            hologram.setSeeThrough(definition.seeThrough());
+            hologram.setTextAlignment(definition.textAlignment());
+            hologram.setUpdateTextInterval(definition.updateTextInterval());
+            hologram.setBackground(definition.background());
+            hologram.setLineSpacing(definition.lineSpacing());
+            
+            // Per-line scaling is only applied when all three axes are present
+            int scaled = Math.min(definition.textLines().size(), Math.min(definition.lineScaleX().size(),
+                Math.min(definition.lineScaleY().size(), definition.lineScaleZ().size())));
+            for (int i = 0; i < scaled; i++) {
+                hologram.setLineScale(i, definition.lineScaleX().get(i), definition.lineScaleY().get(i),
+                    definition.lineScaleZ().get(i));
+            }
+            
+            // Unknown animation specs are dropped, the line stays static
+            for (int i = 0; i < Math.min(definition.textLines().size(), definition.lineAnimations().size()); i++) {
+                hologram.setLineAnimation(i, LineAnimation.parse(definition.lineAnimations().get(i)));
+            }
+            hologram.setAnimationSpeed(definition.animationSpeed());
+            hologram.setMergeLines(definition.mergeLines());
+        }
+        
+        hologram.setBillboard(definition.billboard());
+        hologram.clearDirty();
+        return hologram;
+    }
+    
     public String getId() { return id; }
     public HologramType getType() { return type; }
-    public void setType(HologramType type) { this.type = type; }
+    public void setType(HologramType type) { checkOwner(); this.type = type; markDirty(); }
     public Location getLocation() { return location; }
-    public void setLocation(Location location) { this.location = location; }
+    public void setLocation(Location location) {
+        checkOwner();
+        this.location = location;
+        markDirty();
+        if (index != null) {
+            index.update(this);
+        }
+    }
     public int getVisibilityDistance() { return visibilityDistance; }
-    public void setVisibilityDistance(int visibilityDistance) { this.visibilityDistance = visibilityDistance; }
+    public void setVisibilityDistance(int visibilityDistance) {
+        checkOwner();
+        this.visibilityDistance = visibilityDistance;
+        markDirty();
+        if (index != null) {
+            index.updateRange(this);
+        }
+    }
     public VisibilityType getVisibility() { return visibility; }
-    public void setVisibility(VisibilityType visibility) { this.visibility = visibility; }
+    public void setVisibility(VisibilityType visibility) {
+        checkOwner();
+        this.visibility = visibility;
+        markDirty();
+        if (displayEntities.isEmpty()) return;
+        
+        // Switching between shared and per-viewer rendering respawns the entities, so shared ones
+        // carry no per-player visibility and per-viewer ones start hidden from everyone
+        if (isPerViewer() != spawnedPerViewer) {
+            List<Player> previousViewers = getViewerPlayers();
+            despawn();
+            spawn();
+            showToViewers(previousViewers);
+        }
+        HologramX.getInstance().getHologramManager().getVisibilityEngine().markNearbyDirty(this);
+    }
     public boolean isPersistent() { return persistent; }
-    public void setPersistent(boolean persistent) { this.persistent = persistent; }
+    public void setPersistent(boolean persistent) { checkOwner(); this.persistent = persistent; markDirty(); }
     public float getScaleX() { return scaleX; }
-    public void setScaleX(float scaleX) { this.scaleX = Math.max(0.1f, Math.min(10.0f, scaleX)); }
+    public void setScaleX(float scaleX) { checkOwner(); this.scaleX = Math.max(0.1f, Math.min(10.0f, scaleX)); markDirty(); }
     public float getScaleY() { return scaleY; }
-    public void setScaleY(float scaleY) { this.scaleY = Math.max(0.1f, Math.min(10.0f, scaleY)); }
+    public void setScaleY(float scaleY) { checkOwner(); this.scaleY = Math.max(0.1f, Math.min(10.0f, scaleY)); markDirty(); }
     public float getScaleZ() { return scaleZ; }
-    public void setScaleZ(float scaleZ) { this.scaleZ = Math.max(0.1f, Math.min(10.0f, scaleZ)); }
+    public void setScaleZ(float scaleZ) { checkOwner(); this.scaleZ = Math.max(0.1f, Math.min(10.0f, scaleZ)); markDirty(); }
     public float getTranslationX() { return translationX; }
-    public void setTranslationX(float translationX) { this.translationX = translationX; }
+    public void setTranslationX(float translationX) { checkOwner(); this.translationX = translationX; markDirty(); }
     public float getTranslationY() { return translationY; }
-    public void setTranslationY(float translationY) { this.translationY = translationY; }
+    public void setTranslationY(float translationY) { checkOwner(); this.translationY = translationY; markDirty(); }
     public float getTranslationZ() { return translationZ; }
-    public void setTranslationZ(float translationZ) { this.translationZ = translationZ; }
+    public void setTranslationZ(float translationZ) { checkOwner(); this.translationZ = translationZ; markDirty(); }
     public float getShadowRadius() { return shadowRadius; }
-    public void setShadowRadius(float shadowRadius) { this.shadowRadius = shadowRadius; }
+    public void setShadowRadius(float shadowRadius) { checkOwner(); this.shadowRadius = shadowRadius; markDirty(); }
     public float getShadowStrength() { return shadowStrength; }
-    public void setShadowStrength(float shadowStrength) { this.shadowStrength = shadowStrength; }
-    public List<String> getTextLines() { return textLines; }
+    public void setShadowStrength(float shadowStrength) { checkOwner(); this.shadowStrength = shadowStrength; markDirty(); }
+    public List<String> getTextLines() { return Collections.unmodifiableList(textLines); }
     public void setTextLines(List<String> textLines) { 
-        this.textLines = textLines;
+        checkOwner();
+        this.textLines = new ArrayList<>(textLines);
+        markDirty();
+        compileTextLines();
         ensureLineScaleSize(textLines.size());
     }
     public boolean isTextShadow() { return textShadow; }
-    public void setTextShadow(boolean textShadow) { this.textShadow = textShadow; }
+    public void setTextShadow(boolean textShadow) { checkOwner(); this.textShadow = textShadow; markDirty(); }
     public boolean isSeeThrough() { return seeThrough; }
-    public void setSeeThrough(boolean seeThrough) { this.seeThrough = seeThrough; }
+    public void setSeeThrough(boolean seeThrough) { checkOwner(); this.seeThrough = seeThrough; markDirty(); }
     public TextAlignment getTextAlignment() { return textAlignment; }
-    public void setTextAlignment(TextAlignment textAlignment) { this.textAlignment = textAlignment; }
+    public void setTextAlignment(TextAlignment textAlignment) { checkOwner(); this.textAlignment = textAlignment; markDirty(); }
     public int getUpdateTextInterval() { return updateTextInterval; }
-    public void setUpdateTextInterval(int updateTextInterval) { this.updateTextInterval = updateTextInterval; }
+    public void setUpdateTextInterval(int updateTextInterval) {
+        checkOwner();
+        this.updateTextInterval = updateTextInterval;
+        markDirty();
+        if (loaded) {
+            HologramX.getInstance().getHologramManager().getUpdateScheduler().schedule(this);
+        }
+    }
     public String getBackground() { return background; }
-    public void setBackground(String background) { this.background = background; }
+    public void setBackground(String background) { checkOwner(); this.background = background; markDirty(); }
     public BillboardType getBillboard() { return billboard; }
-    public void setBillboard(BillboardType billboard) { this.billboard = billboard; }
+    public void setBillboard(BillboardType billboard) { checkOwner(); this.billboard = billboard; markDirty(); }
     public double getLineSpacing() { return lineSpacing; }
-    public void setLineSpacing(double lineSpacing) { this.lineSpacing = Math.max(0.1, Math.min(2.0, lineSpacing)); }
+    public void setLineSpacing(double lineSpacing) { checkOwner(); this.lineSpacing = Math.max(0.1, Math.min(2.0, lineSpacing)); markDirty(); }
+    public int getAnimationSpeed() { return animationSpeed; }
+    public void setAnimationSpeed(int animationSpeed) { checkOwner(); this.animationSpeed = Math.max(0, animationSpeed); markDirty(); }
+    public boolean isMergeLines() { return mergeLines; }
+    public void setMergeLines(boolean mergeLines) { checkOwner(); this.mergeLines = mergeLines; markDirty(); }
     public boolean isLoaded() { return loaded; }
-    public Set<UUID> getViewers() { return viewers; }
-    public List<TextDisplay> getDisplayEntities() { return displayEntities; }
+    public Set<UUID> getViewers() {
+        Set<UUID> viewerIds = new HashSet<>();
+        for (Player player : getViewerPlayers()) {
+            viewerIds.add(player.getUniqueId());
+        }
+        return viewerIds;
+    }
+    public List<TextDisplay> getDisplayEntities() { return Collections.unmodifiableList(displayEntities); }
     
     // Enums
     public enum HologramType {
@@ -433,4 +1380,24 @@ public class Hologram {
     public enum BillboardType {
         FIXED, VERTICAL, HORIZONTAL, CENTER
     }
+    
+    /**
+     * A published snapshot together with the edit version it was taken at
+     */
+    private record Published(HologramDefinition definition, long version) {
+    }
+    
+    public enum RenderMode {
+        SHARED, PER_PLAYER
+    }
+    
+    /**
+     * A run of consecutive lines rendered by one display entity
+     */
+    private record Segment(int first, int count) {
+        
+        int end() {
+            return first + count;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,236 @@
+package com.hologramx.holograms;
+
+import com.hologramx.HologramX;
+import org.bukkit.Location;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Collects property changes and applies them in one go on commit.
+ * Built for a new hologram it creates, indexes and spawns the entities exactly once; built for an
+ * existing hologram the changes end in a single incremental refresh instead of one per setter.
+ */
+public final class HologramBuilder {
+    
+    private final String id;
+    private final Hologram target; // Null when creating a new hologram
+    private final List<Consumer<Hologram>> changes = new ArrayList<>();
+    private Location location; // Where a new hologram spawns, decides the owning region
+    private boolean committed = false;
+    
+    private HologramBuilder(String id, Hologram target) {
+        this.id = id;
+        this.target = target;
+    }
+    
+    /**
+     * Starts a new hologram, nothing is spawned until commit
+     */
+    public static HologramBuilder create(String id) {
+        return new HologramBuilder(id, null);
+    }
+    
+    /**
+     * Starts an edit transaction on an existing hologram
+     */
+    public static HologramBuilder edit(Hologram hologram) {
+        return new HologramBuilder(hologram.getId(), hologram);
+    }
+    
+    public String getId() {
+        return id;
+    }
+    
+    /**
+     * Whether this edits an existing hologram rather than creating one
+     */
+    public boolean isEdit() {
+        return target != null;
+    }
+    
+    public HologramBuilder type(Hologram.HologramType type) {
+        return with(hologram -> hologram.setType(type));
+    }
+    
+    public HologramBuilder location(Location location) {
+        Location copy = location.clone();
+        with(hologram -> hologram.setLocation(copy));
+        this.location = copy;
+        return this;
+    }
+    
+    public HologramBuilder text(String... lines) {
+        return text(Arrays.asList(lines));
+    }
+    
+    public HologramBuilder text(List<String> lines) {
+        List<String> copy = new ArrayList<>(lines);
+        return with(hologram -> hologram.setTextLines(new ArrayList<>(copy)));
+    }
+    
+    public HologramBuilder addLine(String text) {
+        return with(hologram -> hologram.addTextLine(text));
+    }
+    
+    public HologramBuilder line(int index, String text) {
+        return with(hologram -> hologram.setTextLine(index, text));
+    }
+    
+    public HologramBuilder lineScale(int index, float scale) {
+        return with(hologram -> hologram.setLineScaleUniform(index, scale));
+    }
+    
+    /**
+     * Animates a line, see LineAnimation for the spec format; null or "none" removes the animation
+     */
+    public HologramBuilder lineAnimation(int index, String spec) {
+        LineAnimation animation = null;
+        if (spec != null && !spec.equalsIgnoreCase("none")) {
+            animation = LineAnimation.parse(spec);
+            if (animation == null) {
+                throw new IllegalArgumentException("Invalid animation: " + spec);
+            }
+        }
+        LineAnimation parsed = animation;
+        return with(hologram -> hologram.setLineAnimation(index, parsed));
+    }
+    
+    public HologramBuilder animationSpeed(int ticks) {
+        return with(hologram -> hologram.setAnimationSpeed(ticks));
+    }
+    
+    public HologramBuilder scale(float scale) {
+        return scale(scale, scale, scale);
+    }
+    
+    public HologramBuilder scale(float x, float y, float z) {
+        return with(hologram -> {
+            hologram.setScaleX(x);
+            hologram.setScaleY(y);
+            hologram.setScaleZ(z);
+        });
+    }
+    
+    public HologramBuilder translation(float x, float y, float z) {
+        return with(hologram -> {
+            hologram.setTranslationX(x);
+            hologram.setTranslationY(y);
+            hologram.setTranslationZ(z);
+        });
+    }
+    
+    public HologramBuilder shadow(float radius, float strength) {
+        return with(hologram -> {
+            hologram.setShadowRadius(radius);
+            hologram.setShadowStrength(strength);
+        });
+    }
+    
+    public HologramBuilder textShadow(boolean textShadow) {
+        return with(hologram -> hologram.setTextShadow(textShadow));
+    }
+    
+    public HologramBuilder seeThrough(boolean seeThrough) {
+        return with(hologram -> hologram.setSeeThrough(seeThrough));
+    }
+    
+    public HologramBuilder textAlignment(Hologram.TextAlignment alignment) {
+        return with(hologram -> hologram.setTextAlignment(alignment));
+    }
+    
+    public HologramBuilder background(String background) {
+        return with(hologram -> hologram.setBackground(background));
+    }
+    
+    public HologramBuilder billboard(Hologram.BillboardType billboard) {
+        return with(hologram -> hologram.setBillboard(billboard));
+    }
+    
+    public HologramBuilder lineSpacing(double lineSpacing) {
+        return with(hologram -> hologram.setLineSpacing(lineSpacing));
+    }
+    
+    public HologramBuilder mergeLines(boolean mergeLines) {
+        return with(hologram -> hologram.setMergeLines(mergeLines));
+    }
+    
+    public HologramBuilder visibility(Hologram.VisibilityType visibility) {
+        return with(hologram -> hologram.setVisibility(visibility));
+    }
+    
+    public HologramBuilder visibilityDistance(int distance) {
+        return with(hologram -> hologram.setVisibilityDistance(distance));
+    }
+    
+    public HologramBuilder updateTextInterval(int ticks) {
+        return with(hologram -> hologram.setUpdateTextInterval(ticks));
+    }
+    
+    public HologramBuilder persistent(boolean persistent) {
+        return with(hologram -> hologram.setPersistent(persistent));
+    }
+    
+    /**
+     * Any other change, applied in order with the rest on commit
+     */
+    public HologramBuilder with(Consumer<Hologram> change) {
+        if (committed) {
+            throw new IllegalStateException("Hologram " + id + " was already committed");
+        }
+        changes.add(change);
+        return this;
+    }
+    
+    /**
+     * Builds the new hologram without registering or spawning it, used by HologramManager#buildHolograms
+     */
+    Hologram build() {
+        if (target != null) {
+            throw new IllegalStateException("Hologram " + id + " already exists, commit the edit instead");
+        }
+        if (committed) {
+            throw new IllegalStateException("Hologram " + id + " was already committed");
+        }
+        committed = true;
+        
+        Hologram hologram = new Hologram(id);
+        changes.forEach(change -> change.accept(hologram));
+        return hologram;
+    }
+    
+    /**
+     * Applies the collected changes on the thread owning the hologram, queued for it when called elsewhere.
+     * Completes with null if the id is already taken, or if the edited hologram was deleted meanwhile.
+     */
+    public CompletableFuture<Hologram> commit() {
+        if (committed) {
+            throw new IllegalStateException("Hologram " + id + " was already committed");
+        }
+        committed = true;
+        
+        HologramManager manager = HologramX.getInstance().getHologramManager();
+        List<Consumer<Hologram>> staged = List.copyOf(changes);
+        if (target == null) {
+            return manager.getMutationQueue().submit(location, () -> {
+                if (manager.getHologram(id) != null) return null;
+                
+                Hologram hologram = new Hologram(id);
+                staged.forEach(change -> change.accept(hologram));
+                manager.addHologram(hologram);
+                return hologram;
+            });
+        }
+        
+        return manager.getMutationQueue().submit(target.getLocation(), () -> {
+            if (manager.getHologram(id) != target) return null;
+            
+            staged.forEach(change -> change.accept(target));
+            target.refresh();
+            return target;
+        });
+    }
+}
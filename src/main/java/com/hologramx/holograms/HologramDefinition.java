@@ -0,0 +1,47 @@
+package com.hologramx.holograms;
+
+import java.util.List;
+
+/**
+ * Immutable copy of everything about a hologram that gets persisted.
+ * Created on the main thread with Hologram#snapshot and safe to serialize from any thread.
+ * A null world means the hologram has no location.
+ */
+public record HologramDefinition(
+    String id,
+    Hologram.HologramType type,
+    String world,
+    double x, double y, double z,
+    float yaw, float pitch,
+    int visibilityDistance,
+    Hologram.VisibilityType visibility,
+    boolean persistent,
+    float scaleX, float scaleY, float scaleZ,
+    float translationX, float translationY, float translationZ,
+    float shadowRadius, float shadowStrength,
+    List<String> textLines,
+    List<Float> lineScaleX, List<Float> lineScaleY, List<Float> lineScaleZ,
+    boolean textShadow,
+    boolean seeThrough,
+    Hologram.TextAlignment textAlignment,
+    int updateTextInterval,
+    String background,
+    Hologram.BillboardType billboard,
+    double lineSpacing,
+    List<String> lineAnimations,
+    int animationSpeed,
+    boolean mergeLines
+) {
+    
+    public HologramDefinition {
+        textLines = List.copyOf(textLines);
+        lineScaleX = List.copyOf(lineScaleX);
+        lineScaleY = List.copyOf(lineScaleY);
+        lineScaleZ = List.copyOf(lineScaleZ);
+        lineAnimations = List.copyOf(lineAnimations);
+    }
+    
+    public boolean hasLocation() {
+        return world != null;
+    }
+}
@@ -1,253 +1,340 @@
 package com.hologramx.holograms;
 
 import com.hologramx.HologramX;
+import com.hologramx.scheduler.TaskScheduler;
+import com.hologramx.storage.HologramPersistence;
+import com.hologramx.storage.HologramStore;
+import com.hologramx.storage.SqlHologramStore;
+import com.hologramx.storage.StorageManager;
+import com.hologramx.storage.YamlHologramStore;
 import com.hologramx.utils.LocationUtils;
+import com.hologramx.utils.PerformanceMonitor;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 public class HologramManager {
     
     private final HologramX plugin;
+    private final TaskScheduler scheduler;
     private final Map<String, Hologram> holograms = new ConcurrentHashMap<>();
-    private final Map<String, Set<Hologram>> chunkHolograms = new ConcurrentHashMap<>();
-    private final File hologramsFile;
-    private FileConfiguration hologramsConfig;
+    private final SpatialIndex spatialIndex = new SpatialIndex();
+    private final VisibilityEngine visibilityEngine;
+    private final RenderStats renderStats = new RenderStats();
+    private final RenderPipeline renderPipeline;
+    private final UpdateScheduler updateScheduler;
+    private final AnimationEngine animationEngine;
+    private final MutationQueue mutationQueue;
+    private final HologramPersistence persistence;
+    private Hologram.RenderMode renderMode = Hologram.RenderMode.SHARED;
     
-    public HologramManager(HologramX plugin) {
+    private static final long LOAD_WAIT_MILLIS = 2_000; // Longest a save barrier blocks for a storage read
+    
+    // Startup loading state, a new load or removeAllHolograms bumps the generation to discard stale results
+    private int loadGeneration = 0;
+    private boolean loading = false;
+    private LoadTask loadTask;
+    private CompletableFuture<List<HologramDefinition>> pendingLoad; // Storage read not yet handed to persistence
+    private final Set<String> deletedWhileLoading = ConcurrentHashMap.newKeySet(); // Kept out of the load and removed from storage
+    private final List<Predicate<Hologram>> deleteFiltersWhileLoading = new ArrayList<>(); // Bulk deletes, also applied to holograms loaded later
+    
+    public HologramManager(HologramX plugin, TaskScheduler scheduler) {
         this.plugin = plugin;
-        this.hologramsFile = new File(plugin.getDataFolder(), "holograms.yml");
-        loadConfig();
-        startUpdateTask();
+        this.scheduler = scheduler;
+        this.visibilityEngine = new VisibilityEngine(plugin, scheduler, spatialIndex);
+        this.renderPipeline = new RenderPipeline(plugin, scheduler);
+        this.updateScheduler = new UpdateScheduler(plugin, scheduler, renderPipeline);
+        this.animationEngine = new AnimationEngine(plugin, scheduler);
+        this.mutationQueue = new MutationQueue(plugin.getLogger(), scheduler);
+        this.persistence = new HologramPersistence(plugin, createStore());
+        loadRenderMode();
+        mutationQueue.start();
+        updateScheduler.start();
+        animationEngine.start();
+        startSaveTask();
+        visibilityEngine.start();
     }
     
-    private void loadConfig() {
-        if (!hologramsFile.exists()) {
-            plugin.saveResource("holograms.yml", false);
+    private void loadRenderMode() {
+        String modeStr = plugin.getConfigManager().getRenderMode();
+        try {
+            renderMode = Hologram.RenderMode.valueOf(modeStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid render mode '" + modeStr + "', falling back to SHARED");
+            renderMode = Hologram.RenderMode.SHARED;
         }
-        hologramsConfig = YamlConfiguration.loadConfiguration(hologramsFile);
     }
     
-    private void startUpdateTask() {
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                updateHolograms();
-            }
-        }.runTaskTimer(plugin, 20L, plugin.getConfigManager().getUpdateInterval());
+    private HologramStore createStore() {
+        File yamlFile = new File(plugin.getDataFolder(), "holograms.yml");
+        StorageManager storage = plugin.getStorageManager();
+        if (storage != null && storage.isUsingDatabase()) {
+            return new SqlHologramStore(plugin, storage, yamlFile);
+        }
+        return new YamlHologramStore(plugin, yamlFile);
     }
     
+    /**
+     * Loads all stored holograms. Storage is read and parsed off the main thread, then the
+     * holograms are created and spawned in batches limited by performance.load-budget-ms per tick.
+     */
     public void loadHolograms() {
         plugin.getLogger().info("Loading holograms...");
+        loadRenderMode();
         
-        ConfigurationSection section = hologramsConfig.getConfigurationSection("");
-        if (section == null) {
-            plugin.getLogger().info("No holograms found to load.");
-            return;
-        }
+        int generation = ++loadGeneration;
+        loading = true;
+        long start = System.nanoTime();
         
-        for (String id : section.getKeys(false)) {
-            try {
-                Hologram hologram = loadHologram(id, section.getConfigurationSection(id));
-                if (hologram != null) {
-                    holograms.put(id, hologram);
-                    addToChunkIndex(hologram);
-                    hologram.spawn();
+        CompletableFuture<List<HologramDefinition>> load = persistence.loadAsync();
+        pendingLoad = load;
+        load.whenComplete((definitions, error) -> {
+            long parseNanos = System.nanoTime() - start;
+            if (!plugin.isEnabled()) return;
+            
+            scheduler.runGlobal(() -> {
+                // A reload or shutdown happened meanwhile
+                if (generation != loadGeneration) return;
+                
+                if (error != null) {
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    plugin.getLogger().severe("Failed to load holograms: " + cause.getMessage());
+                    pendingLoad = null;
+                    loading = false;
+                    return;
                 }
-            } catch (Exception e) {
-                plugin.getLogger().warning("Failed to load hologram '" + id + "': " + e.getMessage());
-            }
+                
+                // A save barrier may have applied the stored state already; otherwise write what
+                // was created, edited or deleted while saves had to wait for storage to be read
+                if (pendingLoad == load) {
+                    applyStoredState(definitions);
+                    saveChanges();
+                }
+                if (definitions.isEmpty()) {
+                    plugin.getLogger().info("No holograms found to load.");
+                    loading = false;
+                    return;
+                }
+                
+                loadTask = new LoadTask(definitions, parseNanos);
+                loadTask.task = scheduler.runGlobalTimer(loadTask, 0L, 1L);
+            });
+        });
+    }
+    
+    /**
+     * Hands the loaded definitions to persistence, then re-applies deletions made before storage was read
+     * so the stored copies of deleted holograms are removed instead of coming back
+     */
+    private void applyStoredState(List<HologramDefinition> definitions) {
+        pendingLoad = null;
+        persistence.reset(definitions);
+        for (String id : deletedWhileLoading) {
+            persistence.remove(id);
+        }
+    }
+    
+    /**
+     * Briefly waits for a storage read that is still running, so a save barrier during loading writes edits
+     * made meanwhile instead of dropping them. Returns false if storage is still unknown.
+     */
+    private boolean awaitStoredState() {
+        CompletableFuture<List<HologramDefinition>> load = pendingLoad;
+        if (load == null) return true;
+        
+        try {
+            applyStoredState(load.get(LOAD_WAIT_MILLIS, TimeUnit.MILLISECONDS));
+            return true;
+        } catch (TimeoutException e) {
+            plugin.getLogger().warning("Holograms were still being read from storage after " + LOAD_WAIT_MILLIS
+                + " ms, changes made meanwhile were not saved");
+            return false;
+        } catch (Exception e) {
+            plugin.getLogger().warning("Holograms could not be read from storage, changes made meanwhile were not saved: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Whether stored holograms are still being loaded and spawned
+     */
+    public boolean isLoading() {
+        return loading;
+    }
+    
+    private void finishLoading(LoadTask task) {
+        loading = false;
+        loadTask = null;
+        deletedWhileLoading.clear();
+        if (!deleteFiltersWhileLoading.isEmpty()) {
+            deleteFiltersWhileLoading.clear();
+            persistence.save();
         }
         
-        plugin.getLogger().info("Loaded " + holograms.size() + " holograms.");
+        plugin.getLogger().info(String.format("Loaded %d holograms in %d ticks (parse %.1f ms, index %.1f ms, spawn %.1f ms)",
+            task.loaded, task.ticks, task.parseNanos / 1e6, task.indexNanos / 1e6, task.spawnNanos / 1e6));
+        visibilityEngine.markAllDirty();
     }
     
-    private Hologram loadHologram(String id, ConfigurationSection section) {
-        if (section == null) return null;
+    /**
+     * Creates, indexes and spawns loaded definitions on the main thread until the tick budget is used up.
+     * On Folia it runs on the global region and each spawn is handed to the hologram's region.
+     */
+    private final class LoadTask implements Runnable {
         
-        Hologram hologram = new Hologram(id);
+        private TaskScheduler.Task task;
+        private final Iterator<HologramDefinition> pending;
+        private final long parseNanos;
+        private long indexNanos = 0;
+        private long spawnNanos = 0;
+        private int loaded = 0;
+        private int ticks = 0;
         
-        // Load type
-        String typeStr = section.getString("type", "TEXT");
-        try {
-            hologram.setType(Hologram.HologramType.valueOf(typeStr.toUpperCase()));
-        } catch (IllegalArgumentException e) {
-            plugin.getLogger().warning("Invalid hologram type '" + typeStr + "' for hologram '" + id + "'");
-            return null;
+        LoadTask(List<HologramDefinition> definitions, long parseNanos) {
+            this.pending = definitions.iterator();
+            this.parseNanos = parseNanos;
         }
         
-        // Load location
-        ConfigurationSection locationSection = section.getConfigurationSection("location");
-        if (locationSection != null) {
-            String worldName = locationSection.getString("world");
-            World world = Bukkit.getWorld(worldName);
-            if (world == null) {
-                plugin.getLogger().warning("World '" + worldName + "' not found for hologram '" + id + "'");
-                return null;
-            }
+        @Override
+        public void run() {
+            ticks++;
+            long budget = Math.max(1, plugin.getConfigManager().getLoadBudgetMillis()) * 1_000_000L;
+            long tickStart = System.nanoTime();
             
-            double x = locationSection.getDouble("x");
-            double y = locationSection.getDouble("y");
-            double z = locationSection.getDouble("z");
-            float yaw = (float) locationSection.getDouble("yaw", 0);
-            float pitch = (float) locationSection.getDouble("pitch", 0);
+            while (pending.hasNext() && System.nanoTime() - tickStart < budget) {
+                load(pending.next());
+            }
             
-            Location location = new Location(world, x, y, z, yaw, pitch);
-            hologram.setLocation(location);
+            if (!pending.hasNext()) {
+                cancel();
+                finishLoading(this);
+            }
         }
         
-        // Load visibility settings
-        hologram.setVisibilityDistance(section.getInt("visibility_distance", -1));
-        String visibilityStr = section.getString("visibility", "ALL");
-        try {
-            hologram.setVisibility(Hologram.VisibilityType.valueOf(visibilityStr.toUpperCase()));
-        } catch (IllegalArgumentException e) {
-            hologram.setVisibility(Hologram.VisibilityType.ALL);
+        void cancel() {
+            if (task != null) {
+                task.cancel();
+            }
         }
         
-        // Load other properties
-        hologram.setPersistent(section.getBoolean("persistent", true));
-        hologram.setScaleX((float) section.getDouble("scale_x", 1.0));
-        hologram.setScaleY((float) section.getDouble("scale_y", 1.0));
-        hologram.setScaleZ((float) section.getDouble("scale_z", 1.0));
-        hologram.setTranslationX((float) section.getDouble("translation_x", 0.0));
-        hologram.setTranslationY((float) section.getDouble("translation_y", 0.0));
-        hologram.setTranslationZ((float) section.getDouble("translation_z", 0.0));
-        hologram.setShadowRadius((float) section.getDouble("shadow_radius", 0.0));
-        hologram.setShadowStrength((float) section.getDouble("shadow_strength", 1.0));
-        
-        // Load text-specific properties
-        if (hologram.getType() == Hologram.HologramType.TEXT) {
-            List<String> textLines = section.getStringList("text");
-            hologram.setTextLines(textLines);
-            hologram.setTextShadow(section.getBoolean("text_shadow", false));
-            hologram.setSeeThrough(section.getBoolean("see_through", false));
+        private void load(HologramDefinition definition) {
+            // Created by a command while loading, the newer one wins; deleted ones stay deleted
+            if (holograms.containsKey(definition.id()) || deletedWhileLoading.contains(definition.id())) return;
             
-            String alignmentStr = section.getString("text_alignment", "CENTER");
+            long start = System.nanoTime();
+            Hologram hologram;
             try {
-                hologram.setTextAlignment(Hologram.TextAlignment.valueOf(alignmentStr.toUpperCase()));
-            } catch (IllegalArgumentException e) {
-                hologram.setTextAlignment(Hologram.TextAlignment.CENTER);
+                hologram = loadHologram(definition);
+            } catch (Exception e) {
+                plugin.getLogger().warning("Failed to load hologram '" + definition.id() + "': " + e.getMessage());
+                return;
             }
+            if (hologram == null) return;
             
-            hologram.setUpdateTextInterval(section.getInt("update_text_interval", -1));
-            hologram.setBackground(section.getString("background", "transparent"));
+            // Matched by a bulk delete issued before it was spawned
+            if (deleteFiltersWhileLoading.stream().anyMatch(filter -> filter.test(hologram))) {
+                persistence.remove(hologram.getId());
+                return;
+            }
             
-            // Load per-line scaling if present
-            List<Double> lineScaleX = section.getDoubleList("line_scale_x");
-            List<Double> lineScaleY = section.getDoubleList("line_scale_y");
-            List<Double> lineScaleZ = section.getDoubleList("line_scale_z");
+            holograms.put(hologram.getId(), hologram);
+            hologram.registered = true;
+            spatialIndex.add(hologram);
+            hologram.publishSnapshot();
+            long indexed = System.nanoTime();
+            indexNanos += indexed - start;
             
-            if (!lineScaleX.isEmpty() && !lineScaleY.isEmpty() && !lineScaleZ.isEmpty()) {
-                for (int i = 0; i < Math.min(textLines.size(), Math.min(lineScaleX.size(), Math.min(lineScaleY.size(), lineScaleZ.size()))); i++) {
-                    hologram.setLineScale(i, 
-                        lineScaleX.get(i).floatValue(),
-                        lineScaleY.get(i).floatValue(),
-                        lineScaleZ.get(i).floatValue());
-                }
-            }
-        }
-        
-        // Load billboard
-        String billboardStr = section.getString("billboard", "VERTICAL");
-        try {
-            hologram.setBillboard(Hologram.BillboardType.valueOf(billboardStr.toUpperCase()));
-        } catch (IllegalArgumentException e) {
-            hologram.setBillboard(Hologram.BillboardType.VERTICAL);
+            hologram.spawn();
+            spawnNanos += System.nanoTime() - indexed;
+            loaded++;
         }
-        
-        return hologram;
     }
     
-    public void saveHolograms() {
-        plugin.getLogger().info("Saving holograms...");
-        
-        hologramsConfig = new YamlConfiguration();
-        
-        for (Hologram hologram : holograms.values()) {
-            if (hologram.isPersistent()) {
-                saveHologram(hologram);
+    /**
+     * Creates the hologram of a loaded definition. Definitions whose world is missing stay
+     * known to persistence, so saving doesn't drop them from storage.
+     */
+    private Hologram loadHologram(HologramDefinition definition) {
+        World world = null;
+        if (definition.hasLocation()) {
+            world = Bukkit.getWorld(definition.world());
+            if (world == null) {
+                plugin.getLogger().warning("World '" + definition.world() + "' not found for hologram '" + definition.id() + "'");
+                return null;
             }
         }
         
-        try {
-            hologramsConfig.save(hologramsFile);
-            plugin.getLogger().info("Saved " + holograms.size() + " holograms.");
-        } catch (IOException e) {
-            plugin.getLogger().severe("Failed to save holograms: " + e.getMessage());
-        }
+        return Hologram.fromDefinition(definition, world);
     }
     
-    private void saveHologram(Hologram hologram) {
-        String id = hologram.getId();
+    private void startSaveTask() {
+        int interval = plugin.getConfigManager().getAutosaveInterval();
+        if (interval <= 0) return;
         
-        // Save type
-        hologramsConfig.set(id + ".type", hologram.getType().name());
-        
-        // Save location
-        Location loc = hologram.getLocation();
-        if (loc != null) {
-            hologramsConfig.set(id + ".location.world", loc.getWorld().getName());
-            hologramsConfig.set(id + ".location.x", loc.getX());
-            hologramsConfig.set(id + ".location.y", loc.getY());
-            hologramsConfig.set(id + ".location.z", loc.getZ());
-            hologramsConfig.set(id + ".location.yaw", loc.getYaw());
-            hologramsConfig.set(id + ".location.pitch", loc.getPitch());
-        }
-        
-        // Save visibility settings
-        hologramsConfig.set(id + ".visibility_distance", hologram.getVisibilityDistance());
-        hologramsConfig.set(id + ".visibility", hologram.getVisibility().name());
-        
-        // Save other properties
-        hologramsConfig.set(id + ".persistent", hologram.isPersistent());
-        hologramsConfig.set(id + ".scale_x", hologram.getScaleX());
-        hologramsConfig.set(id + ".scale_y", hologram.getScaleY());
-        hologramsConfig.set(id + ".scale_z", hologram.getScaleZ());
-        hologramsConfig.set(id + ".translation_x", hologram.getTranslationX());
-        hologramsConfig.set(id + ".translation_y", hologram.getTranslationY());
-        hologramsConfig.set(id + ".translation_z", hologram.getTranslationZ());
-        hologramsConfig.set(id + ".shadow_radius", hologram.getShadowRadius());
-        hologramsConfig.set(id + ".shadow_strength", hologram.getShadowStrength());
+        scheduler.runGlobalTimer(this::saveChanges, interval, interval);
+    }
+    
+    /**
+     * Snapshots holograms edited since the last save and queues an asynchronous write
+     */
+    public void saveChanges() {
+        // Until storage was read persistence doesn't know the stored holograms yet,
+        // writing now would replace them; edits stay flagged dirty until then
+        if (pendingLoad != null) return;
         
-        // Save text-specific properties
-        if (hologram.getType() == Hologram.HologramType.TEXT) {
-            hologramsConfig.set(id + ".text", hologram.getTextLines());
-            hologramsConfig.set(id + ".text_shadow", hologram.isTextShadow());
-            hologramsConfig.set(id + ".see_through", hologram.isSeeThrough());
-            hologramsConfig.set(id + ".text_alignment", hologram.getTextAlignment().name());
-            hologramsConfig.set(id + ".update_text_interval", hologram.getUpdateTextInterval());
-            hologramsConfig.set(id + ".background", hologram.getBackground());
-            
-            // Save per-line scaling
-            List<Double> lineScaleX = new ArrayList<>();
-            List<Double> lineScaleY = new ArrayList<>();
-            List<Double> lineScaleZ = new ArrayList<>();
+        for (Hologram hologram : holograms.values()) {
+            if (!hologram.isDirty()) continue;
             
-            for (int i = 0; i < hologram.getTextLines().size(); i++) {
-                lineScaleX.add((double) hologram.getLineScaleX(i));
-                lineScaleY.add((double) hologram.getLineScaleY(i));
-                lineScaleZ.add((double) hologram.getLineScaleZ(i));
+            // On Folia this runs on the global region: the snapshot is the one the owning region published,
+            // taken before the hologram counts as saved so an edit landing meanwhile stays dirty
+            HologramDefinition snapshot = hologram.takeSnapshotToSave();
+            if (snapshot != null) {
+                if (snapshot.persistent()) {
+                    persistence.update(snapshot);
+                } else {
+                    persistence.remove(snapshot.id());
+                }
             }
             
-            hologramsConfig.set(id + ".line_scale_x", lineScaleX);
-            hologramsConfig.set(id + ".line_scale_y", lineScaleY);
-            hologramsConfig.set(id + ".line_scale_z", lineScaleZ);
+            // An edit without a refresh hasn't been published yet, the owner publishes it for the next save
+            if (hologram.isDirty() && !scheduler.isOwnedByCurrentThread(hologram.getLocation())) {
+                mutationQueue.submit(hologram.getLocation(), hologram::getSnapshot);
+            }
         }
-        
-        // Save billboard
-        hologramsConfig.set(id + ".billboard", hologram.getBillboard().name());
+        persistence.save();
+    }
+    
+    /**
+     * Queues all pending changes for the save thread without waiting for the write, used on reload.
+     * A load started afterwards runs on the same thread, so it reads what was queued here.
+     */
+    public void saveHolograms() {
+        awaitStoredState();
+        saveChanges();
+        plugin.getLogger().info("Queued " + holograms.size() + " holograms for saving.");
+    }
+    
+    /**
+     * Writes pending changes and stops the background save thread
+     */
+    public void shutdown() {
+        mutationQueue.flush();
+        awaitStoredState();
+        saveChanges();
+        persistence.shutdown();
+        renderPipeline.shutdown();
     }
     
     public Hologram createHologram(String id, Hologram.HologramType type, Location location) {
@@ -258,24 +345,210 @@ public class HologramManager {
         Hologram hologram = new Hologram(id);
         hologram.setType(type);
         hologram.setLocation(location);
-        
-        holograms.put(id, hologram);
-        addToChunkIndex(hologram);
-        hologram.spawn();
+        addHologram(hologram);
         
         return hologram;
     }
     
+    /**
+     * Registers a fully configured hologram and spawns it, used by HologramBuilder#commit
+     */
+    void addHologram(Hologram hologram) {
+        holograms.put(hologram.getId(), hologram);
+        hologram.registered = true;
+        spatialIndex.add(hologram);
+        hologram.publishSnapshot();
+        hologram.spawn();
+    }
+    
+    /**
+     * Moves a hologram, updating its entities in place. A hologram that was waiting for its
+     * chunk is spawned if the new chunk is loaded; moving into an unloaded chunk defers it.
+     * Runs on the thread owning the current location and completes with false if the hologram
+     * was deleted before the move ran.
+     */
+    public CompletableFuture<Boolean> moveHologram(Hologram hologram, Location location) {
+        Location target = location.clone();
+        return mutationQueue.submit(hologram.getLocation(), () -> {
+            if (holograms.get(hologram.getId()) != hologram) return false;
+            
+            hologram.setLocation(target);
+            if (hologram.isLoaded()) {
+                hologram.refresh();
+            } else {
+                hologram.spawn();
+            }
+            return true;
+        });
+    }
+    
+    /**
+     * Unregisters a hologram right away, its entities are removed on the thread owning it
+     */
     public boolean deleteHologram(String id) {
         Hologram hologram = holograms.remove(id);
         if (hologram != null) {
-            hologram.despawn();
-            removeFromChunkIndex(hologram);
+            hologram.registered = false;
+            if (loading) {
+                deletedWhileLoading.add(id);
+            }
+            spatialIndex.remove(hologram);
+            persistence.remove(id);
+            mutationQueue.submit(hologram.getLocation(), () -> {
+                hologram.despawn();
+                return null;
+            });
             return true;
         }
         return false;
     }
     
+    /**
+     * Creates many holograms from definitions in one go: all are created and indexed first, then spawned
+     * in one pass and persisted with a single save. Ids that already exist and definitions without a world are skipped.
+     * The batch runs through the mutation queue; each spawn runs on the thread owning the hologram.
+     */
+    public CompletableFuture<BulkResult> createHolograms(Collection<HologramDefinition> definitions) {
+        return createAll(List.copyOf(definitions), HologramDefinition::id, this::loadHologram);
+    }
+    
+    /**
+     * Same as {@link #createHolograms(Collection)} for holograms described with builders
+     */
+    public CompletableFuture<BulkResult> buildHolograms(Collection<HologramBuilder> builders) {
+        List<HologramBuilder> batch = List.copyOf(builders);
+        for (HologramBuilder builder : batch) {
+            if (builder.isEdit()) {
+                throw new IllegalArgumentException("Hologram " + builder.getId() + " already exists, commit the edit instead");
+            }
+        }
+        
+        return createAll(batch, HologramBuilder::getId, HologramBuilder::build);
+    }
+    
+    private <T> CompletableFuture<BulkResult> createAll(List<T> batch, Function<T, String> id, Function<T, Hologram> factory) {
+        return mutationQueue.submit(() -> {
+            long start = System.nanoTime();
+            List<Hologram> created = new ArrayList<>(batch.size());
+            int skipped = 0;
+            for (T entry : batch) {
+                Hologram hologram = holograms.containsKey(id.apply(entry)) ? null : factory.apply(entry);
+                if (hologram == null || hologram.getLocation() == null || hologram.getLocation().getWorld() == null) {
+                    skipped++;
+                    continue;
+                }
+                
+                holograms.put(hologram.getId(), hologram);
+                hologram.registered = true;
+                spatialIndex.add(hologram);
+                hologram.publishSnapshot();
+                created.add(hologram);
+            }
+            long indexed = System.nanoTime();
+            
+            int affected = created.size();
+            int skips = skipped;
+            return forEachOnOwner(created, Hologram::spawn)
+                .thenCompose(ignored -> finishBulk(affected, skips, indexed - start, 0, indexed, System.nanoTime(), this::saveChanges));
+        }).thenCompose(result -> result);
+    }
+    
+    /**
+     * Deletes every hologram matching the filter and removes them from storage with a single save.
+     * While holograms are loading the filter is also applied to the ones that are not spawned yet.
+     */
+    public CompletableFuture<BulkResult> deleteHolograms(Predicate<Hologram> filter) {
+        return mutationQueue.submit(() -> {
+            long start = System.nanoTime();
+            if (loading) {
+                deleteFiltersWhileLoading.add(filter);
+            }
+            
+            List<Hologram> removed = new ArrayList<>();
+            for (Hologram hologram : holograms.values()) {
+                if (filter.test(hologram)) {
+                    removed.add(hologram);
+                }
+            }
+            
+            for (Hologram hologram : removed) {
+                holograms.remove(hologram.getId());
+                hologram.registered = false;
+                spatialIndex.remove(hologram);
+                persistence.remove(hologram.getId());
+                if (loading) {
+                    deletedWhileLoading.add(hologram.getId());
+                }
+            }
+            long indexed = System.nanoTime();
+            
+            return forEachOnOwner(removed, Hologram::despawn)
+                .thenCompose(ignored -> finishBulk(removed.size(), 0, indexed - start, 0, indexed, System.nanoTime(), persistence::save));
+        }).thenCompose(result -> result);
+    }
+    
+    /**
+     * Applies edits to many holograms, refreshing each edited hologram once and saving once at the end.
+     * Ids without a hologram are skipped. Each edit runs on the thread owning its hologram.
+     */
+    public CompletableFuture<BulkResult> applyEdits(Map<String, Consumer<Hologram>> edits) {
+        Map<String, Consumer<Hologram>> batch = new LinkedHashMap<>(edits);
+        return mutationQueue.submit(() -> {
+            long start = System.nanoTime();
+            List<Hologram> targets = new ArrayList<>(batch.size());
+            for (String id : batch.keySet()) {
+                Hologram hologram = holograms.get(id);
+                if (hologram != null) {
+                    targets.add(hologram);
+                }
+            }
+            long looked = System.nanoTime();
+            
+            // A hologram deleted before its turn on the owning thread is left alone
+            List<Hologram> edited = Collections.synchronizedList(new ArrayList<>(targets.size()));
+            return forEachOnOwner(targets, hologram -> {
+                if (holograms.get(hologram.getId()) != hologram) return;
+                
+                batch.get(hologram.getId()).accept(hologram);
+                edited.add(hologram);
+            }).thenCompose(ignored -> {
+                long applied = System.nanoTime();
+                return forEachOnOwner(List.copyOf(edited), Hologram::refresh)
+                    .thenCompose(refreshed -> finishBulk(edited.size(), batch.size() - edited.size(),
+                        looked - start, applied - looked, applied, System.nanoTime(), this::saveChanges));
+            });
+        }).thenCompose(result -> result);
+    }
+    
+    /**
+     * Runs a step for each hologram on the thread owning it, inline when that is the current thread.
+     * A failing step is logged by the queue and doesn't stop the others.
+     */
+    private CompletableFuture<Void> forEachOnOwner(List<Hologram> targets, Consumer<Hologram> step) {
+        CompletableFuture<?>[] steps = new CompletableFuture<?>[targets.size()];
+        for (int i = 0; i < steps.length; i++) {
+            Hologram hologram = targets.get(i);
+            steps[i] = mutationQueue.submit(hologram.getLocation(), () -> {
+                step.accept(hologram);
+                return null;
+            }).exceptionally(error -> null);
+        }
+        return CompletableFuture.allOf(steps);
+    }
+    
+    /**
+     * Queues the single save of a bulk operation and times it
+     * @param entitiesStart When the entity pass started
+     * @param entitiesEnd When the entity pass finished
+     */
+    private CompletableFuture<BulkResult> finishBulk(int affected, int skipped, long prepareNanos, long editNanos,
+                                                     long entitiesStart, long entitiesEnd, Runnable save) {
+        return mutationQueue.submit(() -> {
+            save.run();
+            return new BulkResult(affected, skipped, prepareNanos, editNanos, entitiesEnd - entitiesStart, System.nanoTime() - entitiesEnd);
+        });
+    }
+    
     public Hologram getHologram(String id) {
         return holograms.get(id);
     }
@@ -284,87 +557,106 @@ public class HologramManager {
         return holograms.values();
     }
     
+    public Hologram.RenderMode getRenderMode() {
+        return renderMode;
+    }
+    
+    /**
+     * Holograms placed in a world, read from that world's partition of the spatial index
+     */
+    public List<Hologram> getHologramsInWorld(World world) {
+        return spatialIndex.getInWorld(world);
+    }
+    
     public List<Hologram> getHologramsInChunk(Chunk chunk) {
-        String chunkKey = getChunkKey(chunk);
-        Set<Hologram> chunkHolos = chunkHolograms.get(chunkKey);
-        return chunkHolos != null ? new ArrayList<>(chunkHolos) : new ArrayList<>();
+        Hologram[] chunkHolos = spatialIndex.getInChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+        return Collections.unmodifiableList(Arrays.asList(chunkHolos));
     }
     
-    public void removeAllHolograms() {
-        holograms.values().forEach(Hologram::despawn);
-        holograms.clear();
-        chunkHolograms.clear();
+    public SpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+    
+    public VisibilityEngine getVisibilityEngine() {
+        return visibilityEngine;
     }
     
-    private void updateHolograms() {
+    public UpdateScheduler getUpdateScheduler() {
+        return updateScheduler;
+    }
+    
+    public AnimationEngine getAnimationEngine() {
+        return animationEngine;
+    }
+    
+    public MutationQueue getMutationQueue() {
+        return mutationQueue;
+    }
+    
+    public RenderStats getRenderStats() {
+        return renderStats;
+    }
+    
+    public void removeAllHolograms() {
+        // Abandon a load that is still in progress
+        loadGeneration++;
+        loading = false;
+        pendingLoad = null;
+        deletedWhileLoading.clear();
+        deleteFiltersWhileLoading.clear();
+        if (loadTask != null) {
+            loadTask.cancel();
+            loadTask = null;
+        }
+        
         for (Hologram hologram : holograms.values()) {
-            if (hologram.isLoaded() && hologram.needsUpdate()) {
-                hologram.updateText();
-            }
+            hologram.despawn();
+            spatialIndex.remove(hologram);
+            hologram.registered = false;
         }
+        holograms.clear();
+        spatialIndex.clear();
+        visibilityEngine.reset();
+        updateScheduler.clear();
+        animationEngine.clear();
     }
     
+    /**
+     * Queues a visibility update for the player, processed by the visibility engine on a later tick
+     */
     public void updateHologramsForPlayer(Player player) {
-        for (Hologram hologram : holograms.values()) {
-            if (hologram.isLoaded()) {
-                hologram.updateForPlayer(player);
-            }
-        }
+        visibilityEngine.markDirty(player);
     }
     
     public void onChunkLoad(Chunk chunk) {
-        List<Hologram> chunkHolos = getHologramsInChunk(chunk);
+        PerformanceMonitor monitor = plugin.getPerformanceMonitor();
+        long start = monitor.start();
+        
+        Hologram[] chunkHolos = spatialIndex.getInChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
         for (Hologram hologram : chunkHolos) {
             if (!hologram.isLoaded()) {
                 hologram.spawn();
             }
         }
+        
+        monitor.record(PerformanceMonitor.Stage.CHUNK_LOAD, start);
     }
     
     public void onChunkUnload(Chunk chunk) {
-        List<Hologram> chunkHolos = getHologramsInChunk(chunk);
+        PerformanceMonitor monitor = plugin.getPerformanceMonitor();
+        long start = monitor.start();
+        
+        Hologram[] chunkHolos = spatialIndex.getInChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
         for (Hologram hologram : chunkHolos) {
             if (hologram.isLoaded()) {
                 hologram.despawn();
             }
         }
-    }
-    
-    private void addToChunkIndex(Hologram hologram) {
-        Location loc = hologram.getLocation();
-        if (loc != null) {
-            String chunkKey = getChunkKey(loc.getChunk());
-            chunkHolograms.computeIfAbsent(chunkKey, k -> new HashSet<>()).add(hologram);
-        }
-    }
-    
-    private void removeFromChunkIndex(Hologram hologram) {
-        Location loc = hologram.getLocation();
-        if (loc != null) {
-            String chunkKey = getChunkKey(loc.getChunk());
-            Set<Hologram> chunkHolos = chunkHolograms.get(chunkKey);
-            if (chunkHolos != null) {
-                chunkHolos.remove(hologram);
-                if (chunkHolos.isEmpty()) {
-                    chunkHolograms.remove(chunkKey);
-                }
-            }
-        }
-    }
-    
-    private String getChunkKey(Chunk chunk) {
-        return chunk.getWorld().getName() + ":" + chunk.getX() + ":" + chunk.getZ();
+        
+        monitor.record(PerformanceMonitor.Stage.CHUNK_UNLOAD, start);
     }
     
     public List<Hologram> getNearbyHolograms(Location location, double radius) {
-        List<Hologram> nearby = new ArrayList<>();
-        for (Hologram hologram : holograms.values()) {
-            if (hologram.getLocation() != null && 
-                hologram.getLocation().getWorld().equals(location.getWorld()) &&
-                hologram.getLocation().distance(location) <= radius) {
-                nearby.add(hologram);
-            }
-        }
-        return nearby;
+        return spatialIndex.getNearby(location, radius);
     }
 }
\ No newline at end of file
@@ -0,0 +1,214 @@
+package com.hologramx.holograms;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * A text animation applied to a hologram line, written as "type[:arg:arg...]", e.g.
+ * "typing", "scrolling:24", "blinking" or "gradient:#FFD700:#FF4500".
+ * Frames are built from the line's MiniMessage text once and then only cycled through.
+ */
+public final class LineAnimation {
+    
+    private static final Pattern COLOR_PATTERN = Pattern.compile("#[0-9a-fA-F]{6}|[a-z_]+");
+    private static final int TYPING_HOLD_FRAMES = 20; // Frames the fully typed text stays before restarting
+    private static final int SCROLLING_GAP = 4; // Spaces between the end and the start of scrolling text
+    private static final int GRADIENT_FRAMES = 20;
+    
+    public enum Type {
+        TYPING, SCROLLING, BLINKING, GRADIENT
+    }
+    
+    private final Type type;
+    private final List<String> args;
+    
+    private LineAnimation(Type type, List<String> args) {
+        this.type = type;
+        this.args = args;
+    }
+    
+    /**
+     * Parses an animation spec, returning null if the type or its arguments are invalid
+     */
+    public static LineAnimation parse(String spec) {
+        if (spec == null || spec.isBlank()) return null;
+        
+        String[] parts = spec.trim().split(":");
+        Type type;
+        try {
+            type = Type.valueOf(parts[0].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        
+        List<String> args = new ArrayList<>();
+        for (int i = 1; i < parts.length; i++) {
+            args.add(parts[i]);
+        }
+        
+        switch (type) {
+            case SCROLLING -> {
+                if (args.size() > 1) return null;
+                if (args.size() == 1) {
+                    try {
+                        if (Integer.parseInt(args.get(0)) < 1) return null;
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                }
+            }
+            case GRADIENT -> {
+                if (args.size() == 1) return null;
+                for (String color : args) {
+                    if (!COLOR_PATTERN.matcher(color).matches()) return null;
+                }
+            }
+            default -> {
+                if (!args.isEmpty()) return null;
+            }
+        }
+        return new LineAnimation(type, List.copyOf(args));
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    /**
+     * Builds every frame of this animation for a line's MiniMessage text
+     */
+    public Component[] buildFrames(String source) {
+        MiniMessage miniMessage = MiniMessage.miniMessage();
+        
+        if (type == Type.GRADIENT) {
+            // Shift the gradient phase across [-1, 1), the text's own tags still apply inside it
+            String colors = args.isEmpty() ? "#FFD700:#FF4500" : String.join(":", args);
+            Component[] frames = new Component[GRADIENT_FRAMES];
+            for (int i = 0; i < GRADIENT_FRAMES; i++) {
+                float phase = -1f + 2f * i / GRADIENT_FRAMES;
+                frames[i] = miniMessage.deserialize("<gradient:" + colors + ":" + phase + ">" + source + "</gradient>");
+            }
+            return frames;
+        }
+        
+        Component full = miniMessage.deserialize(source);
+        if (type == Type.BLINKING) {
+            return new Component[] { full, Component.empty() };
+        }
+        
+        List<Glyph> glyphs = new ArrayList<>();
+        flatten(full, Style.empty(), glyphs);
+        if (glyphs.isEmpty()) {
+            return new Component[] { full };
+        }
+        
+        if (type == Type.TYPING) {
+            Component[] frames = new Component[glyphs.size() + TYPING_HOLD_FRAMES];
+            for (int i = 0; i < frames.length; i++) {
+                frames[i] = i < glyphs.size() ? build(glyphs.subList(0, i + 1)) : full;
+            }
+            return frames;
+        }
+        
+        // Scrolling: a window over the text followed by a gap, rotated by one glyph per frame
+        for (int i = 0; i < SCROLLING_GAP; i++) {
+            glyphs.add(new Glyph(" ", Style.empty(), null));
+        }
+        int width = args.isEmpty() ? glyphs.size() - SCROLLING_GAP : Integer.parseInt(args.get(0));
+        Component[] frames = new Component[glyphs.size()];
+        List<Glyph> window = new ArrayList<>(width);
+        for (int i = 0; i < frames.length; i++) {
+            window.clear();
+            for (int j = 0; j < width; j++) {
+                window.add(glyphs.get((i + j) % glyphs.size()));
+            }
+            frames[i] = build(window);
+        }
+        return frames;
+    }
+    
+    /**
+     * Splits a component tree into single characters carrying their effective style
+     */
+    private static void flatten(Component component, Style parent, List<Glyph> glyphs) {
+        Style style = component.style().merge(parent, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+        if (component instanceof TextComponent text) {
+            text.content().codePoints().forEach(codePoint -> glyphs.add(new Glyph(Character.toString(codePoint), style, null)));
+        } else {
+            // Translatable, keybind etc. count as one glyph
+            glyphs.add(new Glyph(null, style, component.children(Collections.emptyList()).style(style)));
+        }
+        
+        for (Component child : component.children()) {
+            flatten(child, style, glyphs);
+        }
+    }
+    
+    /**
+     * Joins glyphs back into a component, merging runs of equal style into one text component
+     */
+    private static Component build(List<Glyph> glyphs) {
+        List<Component> parts = new ArrayList<>();
+        StringBuilder run = new StringBuilder();
+        Style runStyle = null;
+        
+        for (Glyph glyph : glyphs) {
+            if (glyph.component() != null || (runStyle != null && !runStyle.equals(glyph.style()))) {
+                if (run.length() > 0) {
+                    parts.add(Component.text(run.toString(), runStyle));
+                    run.setLength(0);
+                }
+                runStyle = null;
+            }
+            
+            if (glyph.component() != null) {
+                parts.add(glyph.component());
+            } else {
+                run.append(glyph.text());
+                runStyle = glyph.style();
+            }
+        }
+        if (run.length() > 0) {
+            parts.add(Component.text(run.toString(), runStyle));
+        }
+        
+        if (parts.isEmpty()) return Component.empty();
+        return parts.size() == 1 ? parts.get(0) : Component.join(JoinConfiguration.noSeparators(), parts);
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LineAnimation other)) return false;
+        return type == other.type && args.equals(other.args);
+    }
+    
+    @Override
+    public int hashCode() {
+        return type.hashCode() * 31 + args.hashCode();
+    }
+    
+    /**
+     * The spec this animation was parsed from, in normalized form
+     */
+    @Override
+    public String toString() {
+        StringBuilder spec = new StringBuilder(type.name().toLowerCase(Locale.ROOT));
+        for (String arg : args) {
+            spec.append(':').append(arg);
+        }
+        return spec.toString();
+    }
+    
+    private record Glyph(String text, Style style, Component component) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.hologramx.holograms;
+
+import com.hologramx.HologramX;
+import com.hologramx.utils.PerformanceMonitor;
+import com.hologramx.utils.PlaceholderManager;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import org.bukkit.entity.Player;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A hologram text line compiled once: lines without placeholders keep their parsed Component forever,
+ * dynamic lines are resolved by PlaceholderAPI as a whole and skip the MiniMessage parse for text
+ * they rendered recently.
+ */
+public final class LineTemplate {
+    
+    // PlaceholderAPI's %identifier_params% syntax, only used to tell static lines apart
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("[%]([^%]+)[%]");
+    private static final int RENDER_CACHE_SIZE = 16;
+    
+    private final String source;
+    private final boolean dynamic;
+    
+    private volatile Component staticComponent;
+    private final Map<String, Component> rendered = new LinkedHashMap<>(RENDER_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Component> eldest) {
+            return size() > RENDER_CACHE_SIZE;
+        }
+    };
+    
+    private LineTemplate(String source, boolean dynamic) {
+        this.source = source;
+        this.dynamic = dynamic;
+    }
+    
+    public static LineTemplate compile(String source) {
+        if (source == null) source = "";
+        
+        boolean dynamic = source.indexOf('%') >= 0 && PLACEHOLDER_PATTERN.matcher(source).find();
+        return new LineTemplate(source, dynamic);
+    }
+    
+    public String getSource() {
+        return source;
+    }
+    
+    public boolean isStatic() {
+        return !dynamic;
+    }
+    
+    /**
+     * Resolves the placeholders of the whole line for a player (null for the global context)
+     */
+    public String resolve(Player player) {
+        PlaceholderManager placeholders = HologramX.getInstance().getPlaceholderManager();
+        if (!dynamic || !placeholders.isEnabled()) return source;
+        
+        return placeholders.setPlaceholders(player, source);
+    }
+    
+    /**
+     * Builds the line's Component for a player (null for the global context)
+     */
+    public Component render(Player player) {
+        if (!dynamic || !HologramX.getInstance().getPlaceholderManager().isEnabled()) {
+            return getStaticComponent();
+        }
+        return parse(resolve(player));
+    }
+    
+    /**
+     * Turns the result of resolve into a Component, using the cached one for unsubstituted text
+     */
+    public Component toComponent(String resolved) {
+        if (resolved == source) {
+            return getStaticComponent();
+        }
+        return parse(resolved);
+    }
+    
+    /**
+     * Parses already resolved text, reusing the Component of recently rendered text.
+     * A few results are kept, so placeholders flipping between values don't parse every time.
+     */
+    public Component parse(String resolved) {
+        synchronized (rendered) {
+            Component component = rendered.get(resolved);
+            if (component != null) return component;
+        }
+        
+        PerformanceMonitor monitor = HologramX.getInstance().getPerformanceMonitor();
+        long start = monitor.start();
+        Component component = MiniMessage.miniMessage().deserialize(resolved);
+        monitor.record(PerformanceMonitor.Stage.MINIMESSAGE, start);
+        synchronized (rendered) {
+            rendered.put(resolved, component);
+        }
+        return component;
+    }
+    
+    private Component getStaticComponent() {
+        Component component = staticComponent;
+        if (component == null) {
+            PerformanceMonitor monitor = HologramX.getInstance().getPerformanceMonitor();
+            long start = monitor.start();
+            component = MiniMessage.miniMessage().deserialize(source);
+            monitor.record(PerformanceMonitor.Stage.MINIMESSAGE, start);
+            staticComponent = component;
+        }
+        return component;
+    }
+}
@@ -0,0 +1,78 @@
+package com.hologramx.holograms;
+
+import com.hologramx.scheduler.TaskScheduler;
+import org.bukkit.Location;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Funnels hologram mutations onto the main thread, the only thread allowed to change holograms.
+ * Work submitted on the main thread runs right away, anything else is queued and drained every tick.
+ * On Folia the owner is the region thread of the hologram's chunk and the region scheduler does the queueing.
+ * Other threads read holograms through their published snapshots (Hologram#getSnapshot).
+ */
+public class MutationQueue {
+    
+    private final Logger logger;
+    private final TaskScheduler scheduler;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    
+    public MutationQueue(Logger logger, TaskScheduler scheduler) {
+        this.logger = logger;
+        this.scheduler = scheduler;
+    }
+    
+    public void start() {
+        scheduler.runGlobalTimer(this::flush, 1L, 1L);
+    }
+    
+    /**
+     * Runs a mutation on the main thread, completing the future with its result
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> mutation) {
+        return submit(null, mutation);
+    }
+    
+    /**
+     * Runs a mutation on the thread owning the location (null for no particular region)
+     */
+    public <T> CompletableFuture<T> submit(Location location, Supplier<T> mutation) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable task = () -> {
+            try {
+                future.complete(mutation.get());
+            } catch (Throwable t) {
+                logger.log(Level.WARNING, "Hologram mutation failed", t);
+                future.completeExceptionally(t);
+            }
+        };
+        
+        if (scheduler.isOwnedByCurrentThread(location)) {
+            task.run();
+        } else if (scheduler.isRegionized()) {
+            scheduler.runAt(location, task);
+        } else {
+            queue.add(task);
+        }
+        return future;
+    }
+    
+    public int getPending() {
+        return queue.size();
+    }
+    
+    /**
+     * Runs every queued mutation now, main thread only
+     */
+    public void flush() {
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            task.run();
+        }
+    }
+}
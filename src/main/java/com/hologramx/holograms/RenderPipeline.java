@@ -0,0 +1,100 @@
+package com.hologramx.holograms;
+
+import com.hologramx.HologramX;
+import com.hologramx.scheduler.TaskScheduler;
+import net.kyori.adventure.text.Component;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Render stage for dynamic text updates.
+ * Placeholders are resolved on the main thread by the caller; the MiniMessage parsing of the changed
+ * lines is fanned out to a worker pool and the finished components are applied in one main-thread batch.
+ */
+public class RenderPipeline {
+    
+    private final HologramX plugin;
+    private final TaskScheduler scheduler;
+    private final ForkJoinPool pool;
+    
+    public RenderPipeline(HologramX plugin, TaskScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("HologramX-Render-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+    
+    /**
+     * Renders a batch of changed lines and applies them on a later tick.
+     * With performance.async-operations off the batch is rendered and applied right away.
+     */
+    public void submit(List<Job> jobs) {
+        if (jobs.isEmpty()) return;
+        
+        if (!plugin.getConfigManager().isAsyncOperationsEnabled()) {
+            for (Job job : jobs) {
+                job.render();
+                job.hologram.applyRenderedLine(job);
+            }
+            return;
+        }
+        
+        pool.execute(() -> {
+            jobs.parallelStream().forEach(Job::render);
+            
+            if (!plugin.isEnabled()) return;
+            
+            if (!scheduler.isRegionized()) {
+                scheduler.runGlobal(() -> {
+                    for (Job job : jobs) {
+                        job.hologram.applyRenderedLine(job);
+                    }
+                });
+                return;
+            }
+            
+            // Folia: each line is applied on the region owning its hologram
+            for (Job job : jobs) {
+                scheduler.runAt(job.hologram.getLocation(), () -> job.hologram.applyRenderedLine(job));
+            }
+        });
+    }
+    
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            pool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    /**
+     * One resolved line waiting to be turned into a Component
+     */
+    public static final class Job {
+        
+        final Hologram hologram;
+        final int index;
+        final LineTemplate template;
+        final String resolved;
+        Component component;
+        
+        Job(Hologram hologram, int index, LineTemplate template, String resolved) {
+            this.hologram = hologram;
+            this.index = index;
+            this.template = template;
+            this.resolved = resolved;
+        }
+        
+        void render() {
+            component = template.toComponent(resolved);
+        }
+    }
+}
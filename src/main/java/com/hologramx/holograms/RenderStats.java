@@ -0,0 +1,39 @@
+package com.hologramx.holograms;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for line text pushes, used to see how much metadata traffic change detection saves
+ */
+public class RenderStats {
+    
+    private final LongAdder applied = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    
+    public void recordApplied() {
+        applied.increment();
+    }
+    
+    public void recordSuppressed() {
+        suppressed.increment();
+    }
+    
+    /**
+     * Number of line updates that changed the text and were pushed to the entity
+     */
+    public long getApplied() {
+        return applied.sum();
+    }
+    
+    /**
+     * Number of line updates skipped because the resolved text was unchanged
+     */
+    public long getSuppressed() {
+        return suppressed.sum();
+    }
+    
+    public void reset() {
+        applied.reset();
+        suppressed.reset();
+    }
+}
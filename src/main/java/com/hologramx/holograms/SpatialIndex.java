@@ -0,0 +1,331 @@
+package com.hologramx.holograms;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Per-world chunk grid of holograms, keyed by packed chunk coordinates.
+ * Cells hold copy-on-write arrays so lookups never lock, copy or box their key; writes are rare
+ * (create, move, delete) and synchronize on their world grid.
+ */
+public class SpatialIndex {
+    
+    private static final Hologram[] EMPTY = new Hologram[0];
+    
+    private final Map<UUID, WorldGrid> worlds = new ConcurrentHashMap<>();
+    
+    /**
+     * Packs chunk coordinates into a single key, same layout as Paper's Chunk#getChunkKey
+     */
+    public static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkZ << 32) | (chunkX & 0xFFFFFFFFL);
+    }
+    
+    public void add(Hologram hologram) {
+        Location loc = hologram.getLocation();
+        hologram.index = this;
+        if (loc == null || loc.getWorld() == null) {
+            hologram.indexedWorld = null;
+            return;
+        }
+        
+        UUID worldId = loc.getWorld().getUID();
+        long key = chunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+        WorldGrid grid = worlds.computeIfAbsent(worldId, id -> new WorldGrid());
+        grid.add(key, hologram);
+        grid.maxVisibilityDistance = Math.max(grid.maxVisibilityDistance, hologram.getVisibilityDistance());
+        hologram.indexedWorld = worldId;
+        hologram.indexedChunk = key;
+    }
+    
+    /**
+     * Widens the world's sweep range if a hologram's visibility distance grew.
+     * The maximum never shrinks, over-estimating only costs a few empty cell probes.
+     */
+    public void updateRange(Hologram hologram) {
+        if (hologram.indexedWorld == null) return;
+        
+        WorldGrid grid = worlds.get(hologram.indexedWorld);
+        if (grid != null) {
+            grid.maxVisibilityDistance = Math.max(grid.maxVisibilityDistance, hologram.getVisibilityDistance());
+        }
+    }
+    
+    /**
+     * Largest explicit visibility distance of any hologram in a world
+     */
+    public int getMaxVisibilityDistance(World world) {
+        WorldGrid grid = worlds.get(world.getUID());
+        return grid != null ? grid.maxVisibilityDistance : 0;
+    }
+    
+    public void remove(Hologram hologram) {
+        unlink(hologram);
+        hologram.index = null;
+        hologram.indexedWorld = null;
+    }
+    
+    /**
+     * Moves a hologram to its current chunk cell if its location left the indexed one
+     */
+    public void update(Hologram hologram) {
+        Location loc = hologram.getLocation();
+        if (loc != null && loc.getWorld() != null && hologram.indexedWorld != null
+            && hologram.indexedWorld.equals(loc.getWorld().getUID())
+            && hologram.indexedChunk == chunkKey(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)) {
+            return;
+        }
+        
+        unlink(hologram);
+        add(hologram);
+    }
+    
+    private void unlink(Hologram hologram) {
+        if (hologram.indexedWorld == null) return;
+        
+        WorldGrid grid = worlds.get(hologram.indexedWorld);
+        if (grid != null) {
+            grid.remove(hologram.indexedChunk, hologram);
+        }
+    }
+    
+    /**
+     * Returns the holograms indexed in a chunk. The array is shared and must not be modified.
+     */
+    public Hologram[] getInChunk(World world, int chunkX, int chunkZ) {
+        WorldGrid grid = worlds.get(world.getUID());
+        if (grid == null) return EMPTY;
+        
+        Hologram[] cell = grid.get(chunkKey(chunkX, chunkZ));
+        return cell != null ? cell : EMPTY;
+    }
+    
+    public void forEachInWorld(World world, Consumer<Hologram> action) {
+        WorldGrid grid = worlds.get(world.getUID());
+        if (grid == null) return;
+        
+        AtomicReferenceArray<Cell> slots = grid.table;
+        for (int i = 0; i < slots.length(); i++) {
+            Cell cell = slots.get(i);
+            if (cell == null) continue;
+            
+            for (Hologram hologram : cell.holograms()) {
+                action.accept(hologram);
+            }
+        }
+    }
+    
+    /**
+     * All holograms indexed in a world
+     */
+    public List<Hologram> getInWorld(World world) {
+        List<Hologram> result = new ArrayList<>();
+        WorldGrid grid = worlds.get(world.getUID());
+        if (grid == null) return result;
+        
+        AtomicReferenceArray<Cell> slots = grid.table;
+        for (int i = 0; i < slots.length(); i++) {
+            Cell cell = slots.get(i);
+            if (cell != null) {
+                Collections.addAll(result, cell.holograms());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Visits every hologram in the chunks overlapping the square of the given
+     * block radius around (x, z). Callers apply their own exact distance check.
+     */
+    public void forEachInRange(World world, double x, double z, double radius, Consumer<Hologram> action) {
+        WorldGrid grid = worlds.get(world.getUID());
+        if (grid == null) return;
+        
+        int minX = (int) Math.floor(x - radius) >> 4;
+        int maxX = (int) Math.floor(x + radius) >> 4;
+        int minZ = (int) Math.floor(z - radius) >> 4;
+        int maxZ = (int) Math.floor(z + radius) >> 4;
+        long area = (long) (maxX - minX + 1) * (maxZ - minZ + 1);
+        
+        if (area > grid.size) {
+            // Sparse world: walking the occupied cells is cheaper than probing the whole square
+            AtomicReferenceArray<Cell> slots = grid.table;
+            for (int i = 0; i < slots.length(); i++) {
+                Cell cell = slots.get(i);
+                if (cell == null) continue;
+                
+                int chunkX = (int) cell.key();
+                int chunkZ = (int) (cell.key() >> 32);
+                if (chunkX >= minX && chunkX <= maxX && chunkZ >= minZ && chunkZ <= maxZ) {
+                    for (Hologram hologram : cell.holograms()) {
+                        action.accept(hologram);
+                    }
+                }
+            }
+            return;
+        }
+        
+        for (int chunkX = minX; chunkX <= maxX; chunkX++) {
+            for (int chunkZ = minZ; chunkZ <= maxZ; chunkZ++) {
+                Hologram[] cell = grid.get(chunkKey(chunkX, chunkZ));
+                if (cell != null) {
+                    for (Hologram hologram : cell) {
+                        action.accept(hologram);
+                    }
+                }
+            }
+        }
+    }
+    
+    public List<Hologram> getNearby(Location location, double radius) {
+        List<Hologram> nearby = new ArrayList<>();
+        if (location.getWorld() == null) return nearby;
+        
+        double x = location.getX();
+        double y = location.getY();
+        double z = location.getZ();
+        double radiusSquared = radius * radius;
+        
+        forEachInRange(location.getWorld(), x, z, radius, hologram -> {
+            Location loc = hologram.getLocation();
+            double dx = loc.getX() - x;
+            double dy = loc.getY() - y;
+            double dz = loc.getZ() - z;
+            if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+                nearby.add(hologram);
+            }
+        });
+        return nearby;
+    }
+    
+    public void clear() {
+        worlds.clear();
+    }
+    
+    /**
+     * Holograms of one chunk. Immutable, a change replaces the whole cell; an emptied cell stays
+     * behind as a tombstone until the next rehash so probe chains are not cut.
+     */
+    private record Cell(long key, Hologram[] holograms) {
+    }
+    
+    /**
+     * Open-addressing table from packed chunk key to cell. Readers probe without locking and see
+     * either the old or the new cell of a slot; growing publishes a new table through a volatile field.
+     */
+    private static final class WorldGrid {
+        
+        private volatile AtomicReferenceArray<Cell> table = new AtomicReferenceArray<>(16);
+        private volatile int size = 0; // Cells holding holograms
+        private int used = 0; // Occupied slots, tombstones included
+        private volatile int maxVisibilityDistance = 0;
+        
+        private static int slot(long key, int mask) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+        
+        /**
+         * Holograms in a chunk, or null if there are none
+         */
+        Hologram[] get(long key) {
+            AtomicReferenceArray<Cell> slots = table;
+            int mask = slots.length() - 1;
+            for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+                Cell cell = slots.get(i);
+                if (cell == null) return null;
+                if (cell.key() == key) return cell.holograms().length > 0 ? cell.holograms() : null;
+            }
+        }
+        
+        synchronized void add(long key, Hologram hologram) {
+            AtomicReferenceArray<Cell> slots = table;
+            int mask = slots.length() - 1;
+            int i = slot(key, mask);
+            Cell cell;
+            while ((cell = slots.get(i)) != null && cell.key() != key) {
+                i = (i + 1) & mask;
+            }
+            
+            if (cell == null) {
+                // Keep a quarter of the slots free so lookups always reach an empty slot quickly
+                if ((used + 1) * 4 > slots.length() * 3) {
+                    rehash();
+                    add(key, hologram);
+                    return;
+                }
+                slots.set(i, new Cell(key, new Hologram[] { hologram }));
+                used++;
+                size++;
+                return;
+            }
+            
+            Hologram[] holograms = cell.holograms();
+            for (Hologram existing : holograms) {
+                if (existing == hologram) return;
+            }
+            if (holograms.length == 0) size++;
+            Hologram[] grown = Arrays.copyOf(holograms, holograms.length + 1);
+            grown[holograms.length] = hologram;
+            slots.set(i, new Cell(key, grown));
+        }
+        
+        synchronized void remove(long key, Hologram hologram) {
+            AtomicReferenceArray<Cell> slots = table;
+            int mask = slots.length() - 1;
+            int i = slot(key, mask);
+            Cell cell;
+            while ((cell = slots.get(i)) != null && cell.key() != key) {
+                i = (i + 1) & mask;
+            }
+            if (cell == null) return;
+            
+            Hologram[] holograms = cell.holograms();
+            for (int j = 0; j < holograms.length; j++) {
+                if (holograms[j] != hologram) continue;
+                
+                if (holograms.length == 1) {
+                    slots.set(i, new Cell(key, EMPTY));
+                    size--;
+                } else {
+                    Hologram[] shrunk = new Hologram[holograms.length - 1];
+                    System.arraycopy(holograms, 0, shrunk, 0, j);
+                    System.arraycopy(holograms, j + 1, shrunk, j, holograms.length - j - 1);
+                    slots.set(i, new Cell(key, shrunk));
+                }
+                return;
+            }
+        }
+        
+        /**
+         * Copies the live cells into a table sized for one more cell, dropping tombstones
+         */
+        private void rehash() {
+            int capacity = 16;
+            while ((size + 1) * 4 > capacity * 3 || (size + 1) * 2 > capacity) {
+                capacity <<= 1;
+            }
+            
+            AtomicReferenceArray<Cell> old = table;
+            AtomicReferenceArray<Cell> slots = new AtomicReferenceArray<>(capacity);
+            int mask = capacity - 1;
+            for (int i = 0; i < old.length(); i++) {
+                Cell cell = old.get(i);
+                if (cell == null || cell.holograms().length == 0) continue;
+                
+                int j = slot(cell.key(), mask);
+                while (slots.get(j) != null) {
+                    j = (j + 1) & mask;
+                }
+                slots.set(j, cell);
+            }
+            used = size;
+            table = slots;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.hologramx.holograms;
+
+import com.hologramx.HologramX;
+import com.hologramx.scheduler.TaskScheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Hashed timing wheel that drives dynamic text updates.
+ * Each hologram gets a random phase within its interval so equal intervals don't all fire on one tick,
+ * and every tick only the due entries are processed, up to performance.update-budget-ms; the rest
+ * spills over to the next tick. The wheel turns on the global thread and is locked for the (rare)
+ * schedule changes from region threads on Folia, where due holograms update on their own region.
+ */
+public class UpdateScheduler {
+    
+    private static final int WHEEL_SIZE = 512; // Power of two, longer intervals wrap around
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    
+    private final HologramX plugin;
+    private final TaskScheduler scheduler;
+    private final RenderPipeline renderPipeline;
+    @SuppressWarnings("unchecked")
+    private final ArrayDeque<Entry>[] wheel = new ArrayDeque[WHEEL_SIZE];
+    private final ArrayDeque<Entry> ready = new ArrayDeque<>();
+    private long currentTick = 0;
+    private int scheduled = 0;
+    
+    public UpdateScheduler(HologramX plugin, TaskScheduler scheduler, RenderPipeline renderPipeline) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.renderPipeline = renderPipeline;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+    }
+    
+    public void start() {
+        scheduler.runGlobalTimer(this::tick, 1L, 1L);
+    }
+    
+    /**
+     * (Re)schedules a hologram's text updates, replacing a previous schedule.
+     * Holograms without an update interval are just unscheduled.
+     */
+    public synchronized void schedule(Hologram hologram) {
+        cancel(hologram);
+        if (hologram.getUpdateTextInterval() <= 0) return;
+        
+        // performance.update-interval is the minimum interval any hologram can update at
+        int interval = Math.max(hologram.getUpdateTextInterval(), Math.max(1, plugin.getConfigManager().getUpdateInterval()));
+        Entry entry = new Entry(hologram, interval);
+        entry.dueTick = currentTick + 1 + ThreadLocalRandom.current().nextInt(interval);
+        hologram.updateEntry = entry;
+        insert(entry);
+    }
+    
+    public synchronized void cancel(Hologram hologram) {
+        Entry entry = hologram.updateEntry;
+        if (entry != null) {
+            // Removed lazily when its slot comes up
+            entry.cancelled = true;
+            hologram.updateEntry = null;
+            scheduled--;
+        }
+    }
+    
+    public synchronized void clear() {
+        for (ArrayDeque<Entry> slot : wheel) {
+            for (Entry entry : slot) {
+                entry.hologram.updateEntry = null;
+            }
+            slot.clear();
+        }
+        for (Entry entry : ready) {
+            entry.hologram.updateEntry = null;
+        }
+        ready.clear();
+        scheduled = 0;
+    }
+    
+    /**
+     * Number of holograms with scheduled text updates
+     */
+    public int getScheduledCount() {
+        return scheduled;
+    }
+    
+    /**
+     * Number of updates that are due but were pushed to a later tick by the budget
+     */
+    public int getBacklog() {
+        return ready.size();
+    }
+    
+    private void insert(Entry entry) {
+        wheel[(int) (entry.dueTick & WHEEL_MASK)].add(entry);
+        scheduled++;
+    }
+    
+    private synchronized void tick() {
+        currentTick++;
+        
+        // Move the due entries of this slot behind any spill-over from earlier ticks
+        Iterator<Entry> iterator = wheel[(int) (currentTick & WHEEL_MASK)].iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.cancelled) {
+                iterator.remove();
+            } else if (entry.dueTick <= currentTick) {
+                iterator.remove();
+                ready.add(entry);
+            }
+        }
+        
+        // Placeholders are resolved here, the changed lines are rendered off-thread as one batch
+        List<RenderPipeline.Job> batch = new ArrayList<>();
+        long budget = Math.max(1, plugin.getConfigManager().getUpdateBudgetMillis()) * 1_000_000L;
+        long start = System.nanoTime();
+        while (!ready.isEmpty() && System.nanoTime() - start < budget) {
+            Entry entry = ready.poll();
+            if (entry.cancelled) continue;
+            
+            scheduled--;
+            Hologram hologram = entry.hologram;
+            if (scheduler.isOwnedByCurrentThread(hologram.getLocation())) {
+                hologram.collectChangedLines(batch);
+            } else {
+                // Folia: resolve on the hologram's region, which renders its own batch
+                scheduler.runAt(hologram.getLocation(), () -> {
+                    List<RenderPipeline.Job> jobs = new ArrayList<>();
+                    hologram.collectChangedLines(jobs);
+                    renderPipeline.submit(jobs);
+                });
+            }
+            
+            // Keep the original phase, unless the update spilled so far that it is already due again
+            entry.dueTick = Math.max(entry.dueTick + entry.interval, currentTick + 1);
+            insert(entry);
+        }
+        
+        renderPipeline.submit(batch);
+    }
+    
+    static final class Entry {
+        
+        private final Hologram hologram;
+        private final int interval;
+        private long dueTick;
+        private boolean cancelled = false;
+        
+        private Entry(Hologram hologram, int interval) {
+            this.hologram = hologram;
+            this.interval = interval;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.hologramx.holograms;
+
+import com.hologramx.HologramX;
+import com.hologramx.scheduler.TaskScheduler;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Central, tick-driven visibility sweep.
+ * Listeners only mark players dirty; every tick a bounded shard of dirty players is
+ * checked against the holograms of the spatial index around them.
+ * Each online player gets a small slot number, holograms track their viewers as a bit set of slots.
+ * The dirty queue drains on the global thread; on Folia each sweep runs on the player's region thread
+ * and the work on each hologram is handed to the region owning it, which near region borders or with
+ * an unlimited view distance is another region than the player's.
+ */
+public class VisibilityEngine {
+    
+    private final HologramX plugin;
+    private final TaskScheduler scheduler;
+    private final SpatialIndex spatialIndex;
+    
+    private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+    private final Queue<UUID> dirtyQueue = new ConcurrentLinkedQueue<>();
+    private final Map<UUID, Viewer> viewersById = new ConcurrentHashMap<>();
+    private volatile Viewer[] viewersBySlot = new Viewer[64];
+    private int[] freeSlots = new int[16]; // Guarded by this, like nextSlot
+    private int freeSlotCount = 0;
+    private int nextSlot = 0;
+    private volatile long ticks = 0;
+    
+    // Config values, read once per tick
+    private volatile int viewDistance;
+    private volatile double hysteresis;
+    private volatile int permissionCacheTicks;
+    
+    public VisibilityEngine(HologramX plugin, TaskScheduler scheduler, SpatialIndex spatialIndex) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.spatialIndex = spatialIndex;
+        readConfig();
+    }
+    
+    public void start() {
+        scheduler.runGlobalTimer(this::tick, 1L, 1L);
+    }
+    
+    public void markDirty(Player player) {
+        UUID playerId = player.getUniqueId();
+        if (dirtyPlayers.add(playerId)) {
+            dirtyQueue.add(playerId);
+        }
+    }
+    
+    public void markAllDirty() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            markDirty(player);
+        }
+    }
+    
+    /**
+     * Marks the players that may be in range of a hologram, e.g. after it was spawned
+     */
+    public void markNearbyDirty(Hologram hologram) {
+        Location loc = hologram.getLocation();
+        if (loc == null || loc.getWorld() == null) return;
+        
+        double radius = getSweepRadius(loc.getWorld());
+        double radiusSquared = radius * radius;
+        for (Player player : loc.getWorld().getPlayers()) {
+            if (radius < 0 || player.getLocation().distanceSquared(loc) <= radiusSquared) {
+                markDirty(player);
+            }
+        }
+    }
+    
+    /**
+     * Drops all visibility state of a player, e.g. when they quit
+     */
+    public void forget(Player player) {
+        UUID playerId = player.getUniqueId();
+        if (dirtyPlayers.remove(playerId)) {
+            dirtyQueue.remove(playerId);
+        }
+        
+        Viewer viewer = viewersById.remove(playerId);
+        if (viewer == null) return;
+        
+        // Nothing needs hiding from a player who left, but the slot gets reused, so no hologram may still count it as a viewer
+        for (Hologram hologram : plugin.getHologramManager().getHolograms()) {
+            hologram.clearViewerSlot(viewer.slot);
+        }
+        
+        releaseSlot(viewer.slot);
+    }
+    
+    /**
+     * Hides everything a player saw in their previous world in one pass, then queues a sweep of the new one
+     */
+    public void changeWorld(Player player) {
+        Viewer viewer = viewersById.get(player.getUniqueId());
+        if (viewer != null) {
+            for (Hologram hologram : viewer.nearby) {
+                runOnOwner(hologram, () -> hologram.removeViewer(player, viewer.slot));
+            }
+            viewer.nearby.clear();
+        }
+        
+        // Permission plugins may grant different nodes per world
+        invalidatePermissions(player);
+    }
+    
+    /**
+     * Clears all tracked state, used when every hologram is unloaded
+     */
+    public void reset() {
+        dirtyPlayers.clear();
+        dirtyQueue.clear();
+        for (Viewer viewer : viewersById.values()) {
+            viewer.nearby.clear();
+        }
+    }
+    
+    /**
+     * Drops the cached view permissions of a player, e.g. after a permission plugin changed their groups
+     */
+    public void invalidatePermissions(Player player) {
+        Viewer viewer = viewersById.get(player.getUniqueId());
+        if (viewer != null) {
+            viewer.permissions.clear();
+            viewer.permissionsExpireAt = 0;
+        }
+        markDirty(player);
+    }
+    
+    /**
+     * Drops the cached view permissions of every player
+     */
+    public void invalidatePermissions() {
+        for (Viewer viewer : viewersById.values()) {
+            viewer.permissions.clear();
+            viewer.permissionsExpireAt = 0;
+        }
+        markAllDirty();
+    }
+    
+    /**
+     * Player#hasPermission for hologram view nodes, cached per player for performance.permission-cache-ticks.
+     * Bukkit fires no event when permissions are recalculated, so the cache expires instead.
+     */
+    boolean hasPermission(Player player, String node) {
+        if (permissionCacheTicks <= 0) return player.hasPermission(node);
+        
+        Viewer viewer = getViewer(player);
+        if (ticks >= viewer.permissionsExpireAt) {
+            viewer.permissions.clear();
+            viewer.permissionsExpireAt = ticks + permissionCacheTicks;
+        }
+        
+        Boolean allowed = viewer.permissions.get(node);
+        if (allowed == null) {
+            allowed = player.hasPermission(node);
+            viewer.permissions.put(node, allowed);
+        }
+        return allowed;
+    }
+    
+    /**
+     * Slot of a player, assigning the next free one if the player has none yet
+     */
+    int getSlot(Player player) {
+        return getViewer(player).slot;
+    }
+    
+    /**
+     * Slot of a player, or -1 if the player was never evaluated
+     */
+    int findSlot(Player player) {
+        Viewer viewer = viewersById.get(player.getUniqueId());
+        return viewer != null ? viewer.slot : -1;
+    }
+    
+    Player getPlayer(int slot) {
+        Viewer[] slots = viewersBySlot;
+        Viewer viewer = slot < slots.length ? slots[slot] : null;
+        return viewer != null ? viewer.player : null;
+    }
+    
+    /**
+     * performance.view-distance, -1 for unlimited
+     */
+    int getViewDistance() {
+        return viewDistance;
+    }
+    
+    /**
+     * Extra distance a viewer may move past a hologram's range before it is hidden again
+     */
+    double getHysteresis() {
+        return hysteresis;
+    }
+    
+    private Viewer getViewer(Player player) {
+        Viewer viewer = viewersById.get(player.getUniqueId());
+        return viewer != null ? viewer : register(player);
+    }
+    
+    private synchronized Viewer register(Player player) {
+        Viewer viewer = viewersById.get(player.getUniqueId());
+        if (viewer != null) return viewer;
+        
+        int slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : nextSlot++;
+        Viewer[] slots = viewersBySlot;
+        if (slot >= slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+        viewer = new Viewer(player, slot);
+        slots[slot] = viewer;
+        viewersBySlot = slots;
+        viewersById.put(player.getUniqueId(), viewer);
+        return viewer;
+    }
+    
+    private synchronized void releaseSlot(int slot) {
+        viewersBySlot[slot] = null;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+    
+    private void readConfig() {
+        viewDistance = plugin.getConfigManager().getViewDistance();
+        hysteresis = Math.max(0, plugin.getConfigManager().getVisibilityHysteresis());
+        permissionCacheTicks = plugin.getConfigManager().getPermissionCacheTicks();
+    }
+    
+    private void tick() {
+        readConfig();
+        ticks++;
+        
+        // Periodic full sweep catches changes no event tells us about (permissions, edits)
+        int refreshInterval = plugin.getConfigManager().getVisibilityRefreshInterval();
+        if (refreshInterval > 0 && ticks % refreshInterval == 0) {
+            markAllDirty();
+        }
+        
+        int budget = Math.max(1, plugin.getConfigManager().getVisibilityPlayersPerTick());
+        UUID playerId;
+        while (budget-- > 0 && (playerId = dirtyQueue.poll()) != null) {
+            dirtyPlayers.remove(playerId);
+            
+            Player player = Bukkit.getPlayer(playerId);
+            if (player == null || !player.isOnline()) continue;
+            
+            if (scheduler.isOwnedByCurrentThread(player)) {
+                sweep(player);
+            } else {
+                scheduler.runAt(player, () -> sweep(player));
+            }
+        }
+    }
+    
+    private void sweep(Player player) {
+        Viewer viewer = getViewer(player);
+        
+        Location loc = player.getLocation();
+        World world = loc.getWorld();
+        viewer.x = loc.getX();
+        viewer.y = loc.getY();
+        viewer.z = loc.getZ();
+        
+        // Double-buffered so sweeps don't allocate a new set every time
+        Set<Hologram> previous = viewer.nearby;
+        viewer.nearby = viewer.spare;
+        viewer.spare = previous;
+        viewer.nearby.clear();
+        
+        double radius = getSweepRadius(world);
+        if (radius < 0) {
+            spatialIndex.forEachInWorld(world, viewer.check);
+        } else {
+            spatialIndex.forEachInRange(world, viewer.x, viewer.z, radius, viewer.check);
+        }
+        
+        // Holograms that left the sweep range (or the world) were not visited and are hidden explicitly
+        for (Hologram hologram : previous) {
+            if (!viewer.nearby.contains(hologram)) {
+                runOnOwner(hologram, () -> hologram.removeViewer(player, viewer.slot));
+            }
+        }
+        previous.clear();
+    }
+    
+    /**
+     * Runs work on a hologram's entities on the thread owning it, right away when that is the current one
+     */
+    private void runOnOwner(Hologram hologram, Runnable task) {
+        if (scheduler.isOwnedByCurrentThread(hologram.getLocation())) {
+            task.run();
+        } else {
+            scheduler.runAt(hologram.getLocation(), task);
+        }
+    }
+    
+    /**
+     * Horizontal radius swept around a player, or -1 to sweep the whole world
+     */
+    private double getSweepRadius(World world) {
+        if (viewDistance < 0) return -1;
+        
+        // Viewers are only dropped past range plus hysteresis, so those holograms still need a visit
+        return Math.max(viewDistance, spatialIndex.getMaxVisibilityDistance(world)) + hysteresis;
+    }
+    
+    /**
+     * Visibility state of one player. Sweeps of a player never run concurrently, so the sweep
+     * fields need no locking; the index callback is allocated once per player.
+     * Which holograms a sweep visited is kept here rather than on the holograms, since on Folia
+     * sweeps of different players visit the same hologram at the same time.
+     */
+    private final class Viewer {
+        
+        private final Player player;
+        private final int slot;
+        private Set<Hologram> nearby = Collections.newSetFromMap(new IdentityHashMap<>()); // Visited by the last sweep
+        private Set<Hologram> spare = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<String, Boolean> permissions = new ConcurrentHashMap<>(); // View permission node -> result
+        private volatile long permissionsExpireAt = 0;
+        
+        // Sweep in progress
+        private final Consumer<Hologram> check = this::check;
+        private double x, y, z;
+        
+        private Viewer(Player player, int slot) {
+            this.player = player;
+            this.slot = slot;
+        }
+        
+        /**
+         * Every visited hologram is remembered whether it ends up shown or not: the update may run later
+         * on the hologram's own region, so only holograms the next sweep doesn't visit are hidden by it
+         */
+        private void check(Hologram hologram) {
+            if (!hologram.isLoaded()) return;
+            
+            nearby.add(hologram);
+            if (scheduler.isOwnedByCurrentThread(hologram.getLocation())) {
+                hologram.updateForPlayer(player, slot, x, y, z);
+                return;
+            }
+            
+            double px = x, py = y, pz = z;
+            scheduler.runAt(hologram.getLocation(), () -> {
+                if (hologram.isLoaded()) {
+                    hologram.updateForPlayer(player, slot, px, py, pz);
+                }
+            });
+        }
+    }
+}
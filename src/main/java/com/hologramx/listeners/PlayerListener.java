@@ -1,14 +1,12 @@
 package com.hologramx.listeners;
 
 import com.hologramx.HologramX;
-import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
-import org.bukkit.scheduler.BukkitRunnable;
 
 public class PlayerListener implements Listener {
     
@@ -20,20 +18,13 @@ public class PlayerListener implements Listener {
     
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        Player player = event.getPlayer();
-        
-        // Update holograms for the player after a short delay
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                plugin.getHologramManager().updateHologramsForPlayer(player);
-            }
-        }.runTaskLater(plugin, 20L); // 1 second delay
+        // Picked up by the visibility engine on one of the next ticks
+        plugin.getHologramManager().getVisibilityEngine().invalidatePermissions(event.getPlayer());
     }
     
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
-        // Player quit handling if needed
+        plugin.getHologramManager().getVisibilityEngine().forget(event.getPlayer());
     }
     
     @EventHandler
@@ -43,26 +34,12 @@ public class PlayerListener implements Listener {
             event.getFrom().getBlockY() != event.getTo().getBlockY() ||
             event.getFrom().getBlockZ() != event.getTo().getBlockZ()) {
             
-            // Update holograms for the player (async to avoid lag)
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    plugin.getHologramManager().updateHologramsForPlayer(event.getPlayer());
-                }
-            }.runTaskAsynchronously(plugin);
+            plugin.getHologramManager().getVisibilityEngine().markDirty(event.getPlayer());
         }
     }
     
     @EventHandler
     public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
-        Player player = event.getPlayer();
-        
-        // Update holograms when player changes world
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                plugin.getHologramManager().updateHologramsForPlayer(player);
-            }
-        }.runTaskLater(plugin, 5L);
+        plugin.getHologramManager().getVisibilityEngine().changeWorld(event.getPlayer());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,78 @@
+package com.hologramx.scheduler;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Paper and Spigot: every world ticks on the main thread, so region work is just main-thread work
+ */
+public class BukkitTaskScheduler implements TaskScheduler {
+    
+    private final Plugin plugin;
+    
+    public BukkitTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @Override
+    public Task runGlobal(Runnable task) {
+        return wrap(Bukkit.getScheduler().runTask(plugin, task));
+    }
+    
+    @Override
+    public Task runGlobalTimer(Runnable task, long delay, long period) {
+        return wrap(Bukkit.getScheduler().runTaskTimer(plugin, task, delay, period));
+    }
+    
+    @Override
+    public Task runAt(Location location, Runnable task) {
+        return runGlobal(task);
+    }
+    
+    @Override
+    public Task runAt(Entity entity, Runnable task) {
+        return runGlobal(task);
+    }
+    
+    @Override
+    public Task runAsync(Runnable task) {
+        return wrap(Bukkit.getScheduler().runTaskAsynchronously(plugin, task));
+    }
+    
+    @Override
+    public boolean isOwnedByCurrentThread(Location location) {
+        return Bukkit.isPrimaryThread();
+    }
+    
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return Bukkit.isPrimaryThread();
+    }
+    
+    @Override
+    public boolean isRegionized() {
+        return false;
+    }
+    
+    @Override
+    public void cancelAll() {
+        Bukkit.getScheduler().cancelTasks(plugin);
+    }
+    
+    private static Task wrap(BukkitTask task) {
+        return new Task() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+            
+            @Override
+            public boolean isCancelled() {
+                return task.isCancelled();
+            }
+        };
+    }
+}
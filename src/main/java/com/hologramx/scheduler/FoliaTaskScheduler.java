@@ -0,0 +1,92 @@
+package com.hologramx.scheduler;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Folia: worlds are split into regions that tick in parallel, each on its own thread.
+ * Chunk and entity work must run on the owning region, cross-cutting tickers use the global region.
+ */
+public class FoliaTaskScheduler implements TaskScheduler {
+    
+    private final Plugin plugin;
+    
+    public FoliaTaskScheduler(Plugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    @Override
+    public Task runGlobal(Runnable task) {
+        return wrap(Bukkit.getGlobalRegionScheduler().run(plugin, scheduled -> task.run()));
+    }
+    
+    @Override
+    public Task runGlobalTimer(Runnable task, long delay, long period) {
+        // Folia rejects a zero initial delay
+        return wrap(Bukkit.getGlobalRegionScheduler().runAtFixedRate(plugin, scheduled -> task.run(), Math.max(1, delay), period));
+    }
+    
+    @Override
+    public Task runAt(Location location, Runnable task) {
+        if (location == null || location.getWorld() == null) {
+            return runGlobal(task);
+        }
+        return wrap(Bukkit.getRegionScheduler().run(plugin, location.getWorld(),
+            location.getBlockX() >> 4, location.getBlockZ() >> 4, scheduled -> task.run()));
+    }
+    
+    @Override
+    public Task runAt(Entity entity, Runnable task) {
+        // Disabling plugins may not schedule anymore, entities left behind are not persistent anyway
+        if (!plugin.isEnabled()) return null;
+        
+        ScheduledTask scheduled = entity.getScheduler().run(plugin, t -> task.run(), null);
+        return scheduled != null ? wrap(scheduled) : null;
+    }
+    
+    @Override
+    public Task runAsync(Runnable task) {
+        return wrap(Bukkit.getAsyncScheduler().runNow(plugin, scheduled -> task.run()));
+    }
+    
+    @Override
+    public boolean isOwnedByCurrentThread(Location location) {
+        if (location == null || location.getWorld() == null) {
+            return Bukkit.isPrimaryThread();
+        }
+        return Bukkit.isOwnedByCurrentRegion(location);
+    }
+    
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        return Bukkit.isOwnedByCurrentRegion(entity);
+    }
+    
+    @Override
+    public boolean isRegionized() {
+        return true;
+    }
+    
+    @Override
+    public void cancelAll() {
+        Bukkit.getGlobalRegionScheduler().cancelTasks(plugin);
+        Bukkit.getAsyncScheduler().cancelTasks(plugin);
+    }
+    
+    private static Task wrap(ScheduledTask task) {
+        return new Task() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+            
+            @Override
+            public boolean isCancelled() {
+                return task.isCancelled();
+            }
+        };
+    }
+}
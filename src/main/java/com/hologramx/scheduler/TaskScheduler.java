@@ -0,0 +1,71 @@
+package com.hologramx.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Runs plugin work on the thread that owns it.
+ * On Paper that is always the main thread. On Folia hologram work runs on the region thread owning
+ * the hologram's chunk, player work on the player's region and cross-cutting tickers on the global region.
+ * Implementations can be swapped for a stand-in to drive the engines without a server.
+ */
+public interface TaskScheduler {
+    
+    /**
+     * Runs a cross-cutting task on the next tick of the main thread or Folia's global region
+     */
+    Task runGlobal(Runnable task);
+    
+    Task runGlobalTimer(Runnable task, long delay, long period);
+    
+    /**
+     * Runs a task on the thread owning the location's chunk
+     */
+    Task runAt(Location location, Runnable task);
+    
+    /**
+     * Runs a task on the thread owning an entity, following it across regions.
+     * Returns null if the entity was removed and the task will never run.
+     */
+    Task runAt(Entity entity, Runnable task);
+    
+    Task runAsync(Runnable task);
+    
+    /**
+     * Whether the current thread may touch the location's chunk. A null location or world
+     * means no particular region, any tick thread owns it then.
+     */
+    boolean isOwnedByCurrentThread(Location location);
+    
+    boolean isOwnedByCurrentThread(Entity entity);
+    
+    /**
+     * Whether work is split over region threads, false when everything runs on one main thread
+     */
+    boolean isRegionized();
+    
+    void cancelAll();
+    
+    /**
+     * Handle of a scheduled task
+     */
+    interface Task {
+        
+        void cancel();
+        
+        boolean isCancelled();
+    }
+    
+    /**
+     * Picks the Folia scheduler when the server runs regionized, Bukkit's scheduler otherwise
+     */
+    static TaskScheduler create(Plugin plugin) {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return new FoliaTaskScheduler(plugin);
+        } catch (ClassNotFoundException e) {
+            return new BukkitTaskScheduler(plugin);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.hologramx.storage;
+
+import com.hologramx.HologramX;
+import com.hologramx.holograms.HologramDefinition;
+import com.hologramx.utils.PerformanceMonitor;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind persistence in front of a HologramStore.
+ * The owning threads hand over immutable definitions of changed holograms; they are coalesced
+ * into a pending batch and written by a single background thread.
+ */
+public class HologramPersistence {
+    
+    private static final long FLUSH_TIMEOUT_SECONDS = 30;
+    
+    private final HologramX plugin;
+    private final HologramStore store;
+    private final ExecutorService executor;
+    
+    // Guarded by this, deletes on Folia come from region threads
+    private final Map<String, HologramDefinition> definitions = new LinkedHashMap<>();
+    private final Set<String> changedIds = new LinkedHashSet<>();
+    private final Set<String> removedIds = new LinkedHashSet<>();
+    
+    // Batch waiting for the save thread, guarded by pendingLock
+    private final Object pendingLock = new Object();
+    private List<HologramDefinition> pendingAll = null;
+    private final Map<String, HologramDefinition> pendingChanged = new LinkedHashMap<>();
+    private final Set<String> pendingRemoved = new LinkedHashSet<>();
+    
+    public HologramPersistence(HologramX plugin, HologramStore store) {
+        this.plugin = plugin;
+        this.store = store;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HologramX-Save");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Loads every stored hologram on the save thread, after any write that is still queued
+     */
+    public CompletableFuture<List<HologramDefinition>> loadAsync() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return store.loadAll();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+    
+    /**
+     * Replaces the known saved state with freshly loaded definitions
+     */
+    public synchronized void reset(List<HologramDefinition> loaded) {
+        definitions.clear();
+        changedIds.clear();
+        removedIds.clear();
+        
+        for (HologramDefinition definition : loaded) {
+            definitions.put(definition.id(), definition);
+        }
+    }
+    
+    public synchronized void update(HologramDefinition definition) {
+        definitions.put(definition.id(), definition);
+        changedIds.add(definition.id());
+        removedIds.remove(definition.id());
+    }
+    
+    public synchronized void remove(String id) {
+        if (definitions.remove(id) != null) {
+            changedIds.remove(id);
+            removedIds.add(id);
+        }
+    }
+    
+    /**
+     * Queues a write of everything that changed since the last one
+     */
+    public synchronized void save() {
+        synchronized (pendingLock) {
+            // A batch that failed earlier is still pending and gets retried even without new changes
+            if (changedIds.isEmpty() && removedIds.isEmpty()) {
+                if (pendingAll != null) {
+                    executor.execute(this::write);
+                }
+                return;
+            }
+            
+            pendingAll = new ArrayList<>(definitions.values());
+            for (String id : changedIds) {
+                pendingChanged.put(id, definitions.get(id));
+                pendingRemoved.remove(id);
+            }
+            for (String id : removedIds) {
+                pendingChanged.remove(id);
+                pendingRemoved.add(id);
+            }
+        }
+        changedIds.clear();
+        removedIds.clear();
+        
+        executor.execute(this::write);
+    }
+    
+    /**
+     * Queues pending changes and blocks until every queued write has finished
+     */
+    public void flush() {
+        save();
+        try {
+            executor.submit(() -> { }).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            plugin.getLogger().severe("Timed out waiting for holograms to be saved: " + e.getMessage());
+        }
+    }
+    
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+    }
+    
+    private void write() {
+        List<HologramDefinition> all;
+        List<HologramDefinition> changed;
+        List<String> removed;
+        
+        // Several queued saves collapse into one write, later calls find nothing left to do
+        synchronized (pendingLock) {
+            if (pendingAll == null) return;
+            
+            all = pendingAll;
+            changed = new ArrayList<>(pendingChanged.values());
+            removed = new ArrayList<>(pendingRemoved);
+            pendingAll = null;
+            pendingChanged.clear();
+            pendingRemoved.clear();
+        }
+        
+        PerformanceMonitor monitor = plugin.getPerformanceMonitor();
+        long start = monitor.start();
+        try {
+            store.save(all, changed, removed);
+            monitor.record(PerformanceMonitor.Stage.SAVE, start);
+        } catch (Exception e) {
+            plugin.getLogger().severe("Failed to save holograms: " + e.getMessage());
+            requeue(all, changed, removed);
+        }
+    }
+    
+    /**
+     * Puts a failed batch back so the next save retries it, unless newer changes replaced it meanwhile
+     */
+    private void requeue(List<HologramDefinition> all, List<HologramDefinition> changed, List<String> removed) {
+        synchronized (pendingLock) {
+            if (pendingAll == null) {
+                pendingAll = all;
+            }
+            for (HologramDefinition definition : changed) {
+                if (!pendingRemoved.contains(definition.id())) {
+                    pendingChanged.putIfAbsent(definition.id(), definition);
+                }
+            }
+            for (String id : removed) {
+                if (!pendingChanged.containsKey(id)) {
+                    pendingRemoved.add(id);
+                }
+            }
+        }
+    }
+}
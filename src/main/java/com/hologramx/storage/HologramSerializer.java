@@ -0,0 +1,170 @@
+package com.hologramx.storage;
+
+import com.hologramx.holograms.Hologram;
+import com.hologramx.holograms.HologramDefinition;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts hologram definitions to and from their holograms.yml section.
+ * Works on plain data only, so it can run off the main thread.
+ */
+public final class HologramSerializer {
+    
+    private HologramSerializer() {
+    }
+    
+    public static HologramDefinition read(String id, ConfigurationSection section) {
+        // Load type
+        String typeStr = section.getString("type", "TEXT");
+        Hologram.HologramType type;
+        try {
+            type = Hologram.HologramType.valueOf(typeStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid hologram type '" + typeStr + "'");
+        }
+        
+        // Load location
+        String world = null;
+        double x = 0, y = 0, z = 0;
+        float yaw = 0, pitch = 0;
+        ConfigurationSection locationSection = section.getConfigurationSection("location");
+        if (locationSection != null) {
+            world = locationSection.getString("world");
+            x = locationSection.getDouble("x");
+            y = locationSection.getDouble("y");
+            z = locationSection.getDouble("z");
+            yaw = (float) locationSection.getDouble("yaw", 0);
+            pitch = (float) locationSection.getDouble("pitch", 0);
+        }
+        
+        // Load text-specific properties
+        List<String> textLines = List.of();
+        List<Float> lineScaleX = List.of();
+        List<Float> lineScaleY = List.of();
+        List<Float> lineScaleZ = List.of();
+        List<String> lineAnimations = List.of();
+        if (type == Hologram.HologramType.TEXT) {
+            textLines = section.getStringList("text");
+            lineScaleX = toFloats(section.getDoubleList("line_scale_x"));
+            lineScaleY = toFloats(section.getDoubleList("line_scale_y"));
+            lineScaleZ = toFloats(section.getDoubleList("line_scale_z"));
+            lineAnimations = section.getStringList("line_animations");
+        }
+        
+        return new HologramDefinition(
+            id,
+            type,
+            world,
+            x, y, z,
+            yaw, pitch,
+            section.getInt("visibility_distance", -1),
+            parseEnum(Hologram.VisibilityType.class, section.getString("visibility"), Hologram.VisibilityType.ALL),
+            section.getBoolean("persistent", true),
+            (float) section.getDouble("scale_x", 1.0),
+            (float) section.getDouble("scale_y", 1.0),
+            (float) section.getDouble("scale_z", 1.0),
+            (float) section.getDouble("translation_x", 0.0),
+            (float) section.getDouble("translation_y", 0.0),
+            (float) section.getDouble("translation_z", 0.0),
+            (float) section.getDouble("shadow_radius", 0.0),
+            (float) section.getDouble("shadow_strength", 1.0),
+            textLines,
+            lineScaleX, lineScaleY, lineScaleZ,
+            section.getBoolean("text_shadow", false),
+            section.getBoolean("see_through", false),
+            parseEnum(Hologram.TextAlignment.class, section.getString("text_alignment"), Hologram.TextAlignment.CENTER),
+            section.getInt("update_text_interval", -1),
+            section.getString("background", "transparent"),
+            parseEnum(Hologram.BillboardType.class, section.getString("billboard"), Hologram.BillboardType.VERTICAL),
+            section.getDouble("line_spacing", 0.25),
+            lineAnimations,
+            section.getInt("animation_speed", 0),
+            section.getBoolean("merge_lines", false)
+        );
+    }
+    
+    public static void write(HologramDefinition definition, ConfigurationSection section) {
+        // Save type
+        section.set("type", definition.type().name());
+        
+        // Save location
+        if (definition.hasLocation()) {
+            section.set("location.world", definition.world());
+            section.set("location.x", definition.x());
+            section.set("location.y", definition.y());
+            section.set("location.z", definition.z());
+            section.set("location.yaw", definition.yaw());
+            section.set("location.pitch", definition.pitch());
+        }
+        
+        // Save visibility settings
+        section.set("visibility_distance", definition.visibilityDistance());
+        section.set("visibility", definition.visibility().name());
+        
+        // Save other properties
+        section.set("persistent", definition.persistent());
+        section.set("scale_x", definition.scaleX());
+        section.set("scale_y", definition.scaleY());
+        section.set("scale_z", definition.scaleZ());
+        section.set("translation_x", definition.translationX());
+        section.set("translation_y", definition.translationY());
+        section.set("translation_z", definition.translationZ());
+        section.set("shadow_radius", definition.shadowRadius());
+        section.set("shadow_strength", definition.shadowStrength());
+        
+        // Save text-specific properties
+        if (definition.type() == Hologram.HologramType.TEXT) {
+            section.set("text", new ArrayList<>(definition.textLines()));
+            section.set("text_shadow", definition.textShadow());
+            section.set("see_through", definition.seeThrough());
+            section.set("text_alignment", definition.textAlignment().name());
+            section.set("update_text_interval", definition.updateTextInterval());
+            section.set("background", definition.background());
+            section.set("line_spacing", definition.lineSpacing());
+            section.set("merge_lines", definition.mergeLines());
+            
+            // Save per-line scaling
+            section.set("line_scale_x", toDoubles(definition.lineScaleX()));
+            section.set("line_scale_y", toDoubles(definition.lineScaleY()));
+            section.set("line_scale_z", toDoubles(definition.lineScaleZ()));
+            
+            // Save per-line animations, "" marks a line without one
+            if (definition.lineAnimations().stream().anyMatch(animation -> !animation.isEmpty())) {
+                section.set("line_animations", new ArrayList<>(definition.lineAnimations()));
+                section.set("animation_speed", definition.animationSpeed());
+            }
+        }
+        
+        // Save billboard
+        section.set("billboard", definition.billboard().name());
+    }
+    
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, E fallback) {
+        if (value == null) return fallback;
+        
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+    
+    private static List<Float> toFloats(List<Double> values) {
+        List<Float> floats = new ArrayList<>(values.size());
+        for (Double value : values) {
+            floats.add(value.floatValue());
+        }
+        return floats;
+    }
+    
+    private static List<Double> toDoubles(List<Float> values) {
+        List<Double> doubles = new ArrayList<>(values.size());
+        for (Float value : values) {
+            doubles.add((double) value);
+        }
+        return doubles;
+    }
+}
@@ -0,0 +1,28 @@
+package com.hologramx.storage;
+
+import com.hologramx.holograms.HologramDefinition;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Backend that hologram definitions are loaded from and written to.
+ * Saves are called from the background save thread, never concurrently.
+ */
+public interface HologramStore {
+    
+    /**
+     * Loads every stored hologram. Entries that fail to parse are logged and skipped.
+     */
+    List<HologramDefinition> loadAll() throws Exception;
+    
+    /**
+     * Persists a batch of changes
+     *
+     * @param all every persistent hologram, for stores that rewrite everything at once
+     * @param changed holograms created or edited since the last save
+     * @param removed ids of holograms deleted since the last save
+     */
+    void save(Collection<HologramDefinition> all, Collection<HologramDefinition> changed,
+              Collection<String> removed) throws Exception;
+}
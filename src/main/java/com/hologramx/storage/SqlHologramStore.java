@@ -0,0 +1,173 @@
+package com.hologramx.storage;
+
+import com.hologramx.HologramX;
+import com.hologramx.holograms.HologramDefinition;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Stores holograms in the SQL database of the StorageManager, one row per hologram.
+ * The full definition is kept as YAML text in the data column, the other columns are informational.
+ */
+public class SqlHologramStore implements HologramStore {
+    
+    private static final String SELECT_ALL = "SELECT id, data FROM holograms";
+    private static final String DELETE = "DELETE FROM holograms WHERE id = ?";
+    
+    private static final String INSERT = """
+        INSERT INTO holograms (id, name, type, world, x, y, z, yaw, pitch, data)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+    
+    // Row alias instead of VALUES(col), which is deprecated since MySQL 8.0.20
+    private static final String MYSQL_UPSERT = INSERT + """
+        AS new
+        ON DUPLICATE KEY UPDATE name = new.name, type = new.type, world = new.world,
+            x = new.x, y = new.y, z = new.z, yaw = new.yaw, pitch = new.pitch,
+            data = new.data
+        """;
+    
+    private static final String SQLITE_UPSERT = INSERT + """
+        ON CONFLICT(id) DO UPDATE SET name = excluded.name, type = excluded.type, world = excluded.world,
+            x = excluded.x, y = excluded.y, z = excluded.z, yaw = excluded.yaw, pitch = excluded.pitch,
+            data = excluded.data, updated_at = CURRENT_TIMESTAMP
+        """;
+    
+    private final HologramX plugin;
+    private final StorageManager storage;
+    private final File yamlFile; // holograms.yml, imported once into an empty table
+    
+    public SqlHologramStore(HologramX plugin, StorageManager storage, File yamlFile) {
+        this.plugin = plugin;
+        this.storage = storage;
+        this.yamlFile = yamlFile;
+    }
+    
+    @Override
+    public List<HologramDefinition> loadAll() throws SQLException {
+        List<HologramDefinition> definitions = new ArrayList<>();
+        boolean empty = true;
+        
+        try (Connection connection = storage.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_ALL,
+                 ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            // MySQL buffers the whole result set unless asked to stream row by row
+            if (storage.isMySQL()) {
+                statement.setFetchSize(Integer.MIN_VALUE);
+            }
+            
+            // Each row is parsed as it arrives, so only one YAML payload is held at a time
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    empty = false;
+                    HologramDefinition definition = read(result.getString(1), result.getString(2));
+                    if (definition != null) {
+                        definitions.add(definition);
+                    }
+                }
+            }
+        }
+        
+        if (empty && yamlFile.exists()) {
+            return importYaml();
+        }
+        return definitions;
+    }
+    
+    /**
+     * Fills the empty table from holograms.yml after switching database.type away from yaml.
+     * The file is renamed afterwards, so deleting every hologram later doesn't bring them back.
+     */
+    private List<HologramDefinition> importYaml() throws SQLException {
+        List<HologramDefinition> imported = new YamlHologramStore(plugin, yamlFile).loadAll();
+        if (imported.isEmpty()) return imported;
+        
+        save(imported, imported, List.of());
+        
+        File renamed = new File(yamlFile.getParentFile(), yamlFile.getName() + ".imported");
+        if (yamlFile.renameTo(renamed)) {
+            plugin.getLogger().info("Imported " + imported.size() + " holograms from " + yamlFile.getName()
+                + " into the database, the file was renamed to " + renamed.getName());
+        } else {
+            plugin.getLogger().warning("Imported " + imported.size() + " holograms from " + yamlFile.getName()
+                + " into the database, but could not rename the file; it will not be imported again while the table has rows");
+        }
+        return imported;
+    }
+    
+    private HologramDefinition read(String id, String data) {
+        try {
+            YamlConfiguration section = new YamlConfiguration();
+            section.loadFromString(data);
+            return HologramSerializer.read(id, section);
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to load hologram '" + id + "': " + e.getMessage());
+            return null;
+        }
+    }
+    
+    @Override
+    public void save(Collection<HologramDefinition> all, Collection<HologramDefinition> changed,
+                     Collection<String> removed) throws SQLException {
+        if (changed.isEmpty() && removed.isEmpty()) return;
+        
+        try (Connection connection = storage.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                if (!changed.isEmpty()) {
+                    upsert(connection, changed);
+                }
+                if (!removed.isEmpty()) {
+                    delete(connection, removed);
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+    
+    private void upsert(Connection connection, Collection<HologramDefinition> definitions) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(storage.isMySQL() ? MYSQL_UPSERT : SQLITE_UPSERT)) {
+            for (HologramDefinition definition : definitions) {
+                YamlConfiguration data = new YamlConfiguration();
+                HologramSerializer.write(definition, data);
+                
+                statement.setString(1, definition.id());
+                statement.setString(2, definition.id());
+                statement.setString(3, definition.type().name());
+                statement.setString(4, definition.hasLocation() ? definition.world() : "");
+                statement.setDouble(5, definition.x());
+                statement.setDouble(6, definition.y());
+                statement.setDouble(7, definition.z());
+                statement.setFloat(8, definition.yaw());
+                statement.setFloat(9, definition.pitch());
+                statement.setString(10, data.saveToString());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+    
+    private void delete(Connection connection, Collection<String> ids) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DELETE)) {
+            for (String id : ids) {
+                statement.setString(1, id);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+}
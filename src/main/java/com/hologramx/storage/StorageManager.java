@@ -13,6 +13,7 @@ public class StorageManager {
     private final HologramX plugin;
     private HikariDataSource dataSource;
     private boolean usingDatabase = false;
+    private boolean mysql = false;
     
     public StorageManager(HologramX plugin) {
         this.plugin = plugin;
@@ -52,6 +53,9 @@ public class StorageManager {
             config.setIdleTimeout(600000);
             config.setMaxLifetime(1800000);
             
+            // Let the driver send batched upserts as multi-row statements
+            config.addDataSourceProperty("rewriteBatchedStatements", "true");
+            
             dataSource = new HikariDataSource(config);
             
             // Test connection
@@ -59,6 +63,7 @@ public class StorageManager {
                 plugin.getLogger().info("Successfully connected to MySQL database.");
             }
             
+            mysql = true;
             createTables();
             usingDatabase = true;
             return true;
@@ -79,6 +84,10 @@ public class StorageManager {
             config.setMaximumPoolSize(1);
             config.setConnectionTimeout(30000);
             
+            // WAL lets saves append to a log instead of rewriting pages under a global lock
+            config.addDataSourceProperty("journal_mode", "WAL");
+            config.addDataSourceProperty("synchronous", "NORMAL");
+            
             dataSource = new HikariDataSource(config);
             
             // Test connection
@@ -97,6 +106,7 @@ public class StorageManager {
     }
     
     private void createTables() throws SQLException {
+        // SQLite has no ON UPDATE clause, its upsert sets updated_at itself
         String createHologramsTable = """
             CREATE TABLE IF NOT EXISTS holograms (
                 id VARCHAR(50) PRIMARY KEY,
@@ -110,9 +120,9 @@ public class StorageManager {
                 pitch FLOAT DEFAULT 0,
                 data TEXT NOT NULL,
                 created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP %s
             )
-        """;
+        """.formatted(mysql ? "ON UPDATE CURRENT_TIMESTAMP" : "");
         
         try (Connection connection = getConnection();
              PreparedStatement statement = connection.prepareStatement(createHologramsTable)) {
@@ -131,6 +141,13 @@ public class StorageManager {
         return usingDatabase;
     }
     
+    /**
+     * Whether the database is MySQL, otherwise SQLite. Only meaningful when isUsingDatabase is true.
+     */
+    public boolean isMySQL() {
+        return mysql;
+    }
+    
     public void close() {
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
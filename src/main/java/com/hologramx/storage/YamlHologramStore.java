@@ -0,0 +1,76 @@
+package com.hologramx.storage;
+
+import com.hologramx.HologramX;
+import com.hologramx.holograms.HologramDefinition;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Stores all holograms in holograms.yml, rewriting the whole file through a temp file and an atomic rename
+ */
+public class YamlHologramStore implements HologramStore {
+    
+    private final HologramX plugin;
+    private final File file;
+    
+    public YamlHologramStore(HologramX plugin, File file) {
+        this.plugin = plugin;
+        this.file = file;
+    }
+    
+    @Override
+    public List<HologramDefinition> loadAll() {
+        if (!file.exists()) {
+            plugin.saveResource(file.getName(), false);
+        }
+        
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        
+        // The parsed tree is only read from here on, so sections are converted in parallel
+        return new ArrayList<>(config.getKeys(false)).parallelStream()
+            .map(id -> read(id, config.getConfigurationSection(id)))
+            .filter(Objects::nonNull)
+            .toList();
+    }
+    
+    private HologramDefinition read(String id, ConfigurationSection section) {
+        if (section == null) return null;
+        
+        try {
+            return HologramSerializer.read(id, section);
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to load hologram '" + id + "': " + e.getMessage());
+            return null;
+        }
+    }
+    
+    @Override
+    public void save(Collection<HologramDefinition> all, Collection<HologramDefinition> changed,
+                     Collection<String> removed) throws IOException {
+        YamlConfiguration config = new YamlConfiguration();
+        for (HologramDefinition definition : all) {
+            HologramSerializer.write(definition, config.createSection(definition.id()));
+        }
+        
+        Path target = file.toPath();
+        Path temp = target.resolveSibling(file.getName() + ".tmp");
+        Files.writeString(temp, config.saveToString(), StandardCharsets.UTF_8);
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
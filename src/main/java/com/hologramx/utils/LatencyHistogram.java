@@ -0,0 +1,92 @@
+package com.hologramx.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear histogram of nanosecond durations, in the style of HdrHistogram.
+ * Every power of two is split into 16 linear buckets, so recorded values keep ~6% precision.
+ */
+public class LatencyHistogram {
+    
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_EXPONENT = 40; // ~18 minutes, larger values land in the last bucket
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+    
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+    
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        
+        counts.incrementAndGet(indexOf(nanos));
+        count.incrementAndGet();
+        max.accumulateAndGet(nanos, Math::max);
+    }
+    
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        max.set(0);
+    }
+    
+    public long getCount() {
+        return count.get();
+    }
+    
+    public long getMax() {
+        return max.get();
+    }
+    
+    /**
+     * Adds this histogram's bucket counts to an array of BUCKETS entries
+     */
+    public void addTo(long[] merged) {
+        for (int i = 0; i < BUCKETS; i++) {
+            merged[i] += counts.get(i);
+        }
+    }
+    
+    /**
+     * Returns the value at a percentile (0-100) of merged bucket counts, as the upper bound of its bucket
+     */
+    public static long percentile(long[] merged, double percentile) {
+        long total = 0;
+        for (long bucket : merged) {
+            total += bucket;
+        }
+        if (total == 0) return 0;
+        
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < merged.length; i++) {
+            seen += merged[i];
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(merged.length - 1);
+    }
+    
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) return BUCKETS - 1;
+        
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+    
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) return index;
+        
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,122 @@
+package com.hologramx.utils;
+
+import com.hologramx.HologramX;
+
+/**
+ * Stage timers behind debug.performance-logging.
+ * Durations go into per-stage histograms over a rolling window of WINDOW_SLOTS intervals;
+ * when logging is off, start() returns 0 and record() does nothing.
+ *
+ * <pre>
+ * long start = monitor.start();
+ * ...
+ * monitor.record(PerformanceMonitor.Stage.SPAWN, start);
+ * </pre>
+ */
+public class PerformanceMonitor {
+    
+    private static final int WINDOW_SLOTS = 6;
+    private static final long SLOT_TICKS = 200L; // 6 x 10 seconds
+    
+    private final HologramX plugin;
+    private final LatencyHistogram[][] histograms = new LatencyHistogram[Stage.values().length][WINDOW_SLOTS];
+    private volatile int currentSlot = 0;
+    private volatile boolean enabled;
+    
+    public PerformanceMonitor(HologramX plugin) {
+        this.plugin = plugin;
+        for (LatencyHistogram[] slots : histograms) {
+            for (int i = 0; i < WINDOW_SLOTS; i++) {
+                slots[i] = new LatencyHistogram();
+            }
+        }
+        reload();
+        
+        // Advance the window, clearing the oldest interval before it is reused
+        plugin.getTaskScheduler().runGlobalTimer(() -> {
+            int next = (currentSlot + 1) % WINDOW_SLOTS;
+            for (LatencyHistogram[] slots : histograms) {
+                slots[next].reset();
+            }
+            currentSlot = next;
+        }, SLOT_TICKS, SLOT_TICKS);
+    }
+    
+    public void reload() {
+        enabled = plugin.getConfigManager().isPerformanceLoggingEnabled();
+        if (!enabled) {
+            reset();
+        }
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+    
+    public void record(Stage stage, long start) {
+        if (start == 0L || !enabled) return;
+        
+        histograms[stage.ordinal()][currentSlot].record(System.nanoTime() - start);
+    }
+    
+    public void reset() {
+        for (LatencyHistogram[] slots : histograms) {
+            for (LatencyHistogram histogram : slots) {
+                histogram.reset();
+            }
+        }
+    }
+    
+    /**
+     * Length of the rolling window in seconds
+     */
+    public long getWindowSeconds() {
+        return WINDOW_SLOTS * SLOT_TICKS / 20;
+    }
+    
+    public StageReport getReport(Stage stage) {
+        long[] merged = new long[LatencyHistogram.BUCKETS];
+        long count = 0;
+        long max = 0;
+        for (LatencyHistogram histogram : histograms[stage.ordinal()]) {
+            histogram.addTo(merged);
+            count += histogram.getCount();
+            max = Math.max(max, histogram.getMax());
+        }
+        
+        // Bucket upper bounds can overshoot the largest recorded value
+        return new StageReport(stage, count, Math.min(LatencyHistogram.percentile(merged, 50), max),
+            Math.min(LatencyHistogram.percentile(merged, 99), max), max);
+    }
+    
+    public enum Stage {
+        SPAWN("spawn"),
+        UPDATE_TEXT("updateText"),
+        UPDATE_FOR_PLAYER("updateForPlayer"),
+        PLACEHOLDER("placeholders"),
+        MINIMESSAGE("minimessage"),
+        CHUNK_LOAD("chunk load"),
+        CHUNK_UNLOAD("chunk unload"),
+        SAVE("save");
+        
+        private final String displayName;
+        
+        Stage(String displayName) {
+            this.displayName = displayName;
+        }
+        
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+    
+    /**
+     * Timings of one stage over the rolling window, durations in nanoseconds
+     */
+    public record StageReport(Stage stage, long count, long p50, long p99, long max) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.hologramx.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of placeholder-resolved lines with a fixed time-to-live.
+ * Entries are keyed by (player, text); a null player is the global context.
+ */
+public class PlaceholderCache {
+    
+    private final long ttlMillis;
+    private final Map<Key, Entry> entries;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    
+    public PlaceholderCache(long ttlMillis, int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+    
+    /**
+     * Returns the cached resolution of a text, resolving and storing it if missing or expired.
+     * The resolver runs outside the lock so slow expansions don't block other lookups.
+     */
+    public String get(UUID playerId, String text, Function<String, String> resolver) {
+        Key key = new Key(playerId, text);
+        long now = System.currentTimeMillis();
+        
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hits.incrementAndGet();
+                return entry.value;
+            }
+        }
+        
+        misses.incrementAndGet();
+        String value = resolver.apply(text);
+        
+        synchronized (entries) {
+            entries.put(key, new Entry(value, now + ttlMillis));
+        }
+        return value;
+    }
+    
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+    
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+    
+    public long getHits() {
+        return hits.get();
+    }
+    
+    public long getMisses() {
+        return misses.get();
+    }
+    
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+    
+    private record Key(UUID playerId, String text) {
+    }
+    
+    private record Entry(String value, long expiresAt) {
+    }
+}
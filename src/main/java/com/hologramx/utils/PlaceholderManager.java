@@ -9,6 +9,7 @@ public class PlaceholderManager {
     
     private final HologramX plugin;
     private final boolean placeholderAPIEnabled;
+    private PlaceholderCache cache;
     
     public PlaceholderManager(HologramX plugin) {
         this.plugin = plugin;
@@ -19,6 +20,18 @@ public class PlaceholderManager {
         } else {
             plugin.getLogger().info("PlaceholderAPI not found. Placeholder support disabled.");
         }
+        
+        reload();
+    }
+    
+    public void reload() {
+        if (plugin.getConfigManager().isPlaceholderCacheEnabled()) {
+            cache = new PlaceholderCache(
+                plugin.getConfigManager().getPlaceholderCacheDuration() * 1000L,
+                plugin.getConfigManager().getPlaceholderCacheMaxEntries());
+        } else {
+            cache = null;
+        }
     }
     
     public boolean isEnabled() {
@@ -26,17 +39,39 @@ public class PlaceholderManager {
     }
     
     public String setPlaceholders(Player player, String text) {
-        if (!isEnabled()) return text;
+        if (!isEnabled() || !containsPlaceholders(text)) return text;
         
+        PlaceholderCache cache = this.cache;
+        if (cache == null) {
+            return resolve(player, text);
+        }
+        
+        // PlaceholderAPI parses the whole line itself (literal %, bracket and nested placeholders),
+        // so whole lines are cached; identical lines across holograms share one lookup
+        return cache.get(player != null ? player.getUniqueId() : null, text, t -> resolve(player, t));
+    }
+    
+    private String resolve(Player player, String text) {
+        PerformanceMonitor monitor = plugin.getPerformanceMonitor();
+        long start = monitor.start();
         try {
             return PlaceholderAPI.setPlaceholders(player, text);
         } catch (Exception e) {
             plugin.getLogger().warning("Error setting placeholders: " + e.getMessage());
             return text;
+        } finally {
+            monitor.record(PerformanceMonitor.Stage.PLACEHOLDER, start);
         }
     }
     
     public boolean containsPlaceholders(String text) {
         return text != null && text.contains("%");
     }
-}
\ No newline at end of file
+    
+    /**
+     * The placeholder result cache, or null if placeholders.cache-enabled is off
+     */
+    public PlaceholderCache getCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,124 @@
+package com.hologramx.holograms;
+
+import com.hologramx.scheduler.FakeTaskScheduler;
+import org.bukkit.Location;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MutationQueueTest {
+    
+    private static final Logger LOGGER = Logger.getLogger("MutationQueueTest");
+    
+    @Test
+    void runsRightAwayOnTheMainThread() {
+        FakeTaskScheduler scheduler = new FakeTaskScheduler(false);
+        MutationQueue queue = new MutationQueue(LOGGER, scheduler);
+        
+        CompletableFuture<String> future = queue.submit(() -> "done");
+        
+        assertEquals("done", future.getNow(null));
+        assertEquals(0, queue.getPending());
+    }
+    
+    @Test
+    void queuesOtherThreadsAndRunsInSubmissionOrder() {
+        FakeTaskScheduler scheduler = new FakeTaskScheduler(false);
+        MutationQueue queue = new MutationQueue(LOGGER, scheduler);
+        List<Integer> ran = new ArrayList<>();
+        
+        scheduler.setMainThread(false);
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            futures.add(queue.submit(() -> {
+                ran.add(value);
+                return value;
+            }));
+        }
+        assertTrue(ran.isEmpty());
+        assertEquals(5, queue.getPending());
+        
+        scheduler.setMainThread(true);
+        queue.flush();
+        
+        assertEquals(List.of(0, 1, 2, 3, 4), ran);
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(i, futures.get(i).getNow(null));
+        }
+        assertEquals(0, queue.getPending());
+    }
+    
+    @Test
+    void drainsEveryTickOnceStarted() {
+        FakeTaskScheduler scheduler = new FakeTaskScheduler(false);
+        MutationQueue queue = new MutationQueue(LOGGER, scheduler);
+        queue.start();
+        
+        scheduler.setMainThread(false);
+        CompletableFuture<Boolean> future = queue.submit(() -> true);
+        assertFalse(future.isDone());
+        
+        scheduler.setMainThread(true);
+        scheduler.tick();
+        
+        assertTrue(future.getNow(false));
+    }
+    
+    @Test
+    void failedMutationDoesNotStopTheOnesAfterIt() {
+        FakeTaskScheduler scheduler = new FakeTaskScheduler(false);
+        MutationQueue queue = new MutationQueue(LOGGER, scheduler);
+        
+        scheduler.setMainThread(false);
+        CompletableFuture<Object> failing = queue.submit(() -> {
+            throw new IllegalStateException("edit failed");
+        });
+        CompletableFuture<String> next = queue.submit(() -> "next");
+        
+        scheduler.setMainThread(true);
+        queue.flush();
+        
+        assertTrue(failing.isCompletedExceptionally());
+        assertEquals("next", next.getNow(null));
+    }
+    
+    @Test
+    void handsOffToTheRegionOwningTheLocation() {
+        FakeTaskScheduler scheduler = new FakeTaskScheduler(true);
+        MutationQueue queue = new MutationQueue(LOGGER, scheduler);
+        Location elsewhere = new Location(null, 512, 64, 512);
+        List<String> ran = new ArrayList<>();
+        
+        CompletableFuture<Boolean> first = queue.submit(elsewhere, () -> ran.add("first"));
+        CompletableFuture<Boolean> second = queue.submit(elsewhere, () -> ran.add("second"));
+        
+        // Nothing runs on the submitting thread and nothing waits in the main-thread queue
+        assertTrue(ran.isEmpty());
+        assertEquals(0, queue.getPending());
+        assertEquals(2, scheduler.getPendingAt(elsewhere));
+        
+        scheduler.runRegion(elsewhere);
+        
+        assertEquals(List.of("first", "second"), ran);
+        assertTrue(first.isDone() && second.isDone());
+    }
+    
+    @Test
+    void runsRightAwayInTheOwningRegion() {
+        FakeTaskScheduler scheduler = new FakeTaskScheduler(true);
+        MutationQueue queue = new MutationQueue(LOGGER, scheduler);
+        Location here = new Location(null, 0, 64, 0);
+        scheduler.own(here);
+        
+        CompletableFuture<String> future = queue.submit(here, () -> "inline");
+        
+        assertEquals("inline", future.getNow(null));
+        assertEquals(0, scheduler.getPendingAt(here));
+    }
+}
@@ -0,0 +1,137 @@
+package com.hologramx.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+import java.util.*;
+
+/**
+ * Stand-in scheduler that runs nothing on its own: tasks wait until the test drains them.
+ * The test decides whether the server is regionized, whether the current thread is the main thread
+ * and which locations it owns.
+ */
+public class FakeTaskScheduler implements TaskScheduler {
+    
+    private final boolean regionized;
+    private boolean mainThread = true;
+    private final Set<Location> owned = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Runnable> global = new ArrayList<>();
+    private final List<Runnable> timers = new ArrayList<>();
+    private final Map<Location, List<Runnable>> regions = new IdentityHashMap<>();
+    
+    public FakeTaskScheduler(boolean regionized) {
+        this.regionized = regionized;
+    }
+    
+    /**
+     * Whether the current thread acts as the main thread (or Folia's global region)
+     */
+    public void setMainThread(boolean mainThread) {
+        this.mainThread = mainThread;
+    }
+    
+    /**
+     * Lets the current thread own a location, as if it ran the location's region
+     */
+    public void own(Location location) {
+        owned.add(location);
+    }
+    
+    /**
+     * Runs one tick of the timers, then the global tasks queued so far
+     */
+    public void tick() {
+        new ArrayList<>(timers).forEach(Runnable::run);
+        List<Runnable> tasks = new ArrayList<>(global);
+        global.clear();
+        tasks.forEach(Runnable::run);
+    }
+    
+    /**
+     * Runs the tasks queued for a location's region
+     */
+    public void runRegion(Location location) {
+        List<Runnable> tasks = regions.remove(location);
+        if (tasks != null) {
+            tasks.forEach(Runnable::run);
+        }
+    }
+    
+    public int getPendingGlobal() {
+        return global.size();
+    }
+    
+    public int getPendingAt(Location location) {
+        List<Runnable> tasks = regions.get(location);
+        return tasks != null ? tasks.size() : 0;
+    }
+    
+    @Override
+    public Task runGlobal(Runnable task) {
+        global.add(task);
+        return new FakeTask();
+    }
+    
+    @Override
+    public Task runGlobalTimer(Runnable task, long delay, long period) {
+        timers.add(task);
+        return new FakeTask();
+    }
+    
+    @Override
+    public Task runAt(Location location, Runnable task) {
+        if (!regionized || location == null) {
+            return runGlobal(task);
+        }
+        regions.computeIfAbsent(location, key -> new ArrayList<>()).add(task);
+        return new FakeTask();
+    }
+    
+    @Override
+    public Task runAt(Entity entity, Runnable task) {
+        throw new UnsupportedOperationException("Entities are not simulated");
+    }
+    
+    @Override
+    public Task runAsync(Runnable task) {
+        return runGlobal(task);
+    }
+    
+    @Override
+    public boolean isOwnedByCurrentThread(Location location) {
+        if (!regionized || location == null) return mainThread;
+        return owned.contains(location);
+    }
+    
+    @Override
+    public boolean isOwnedByCurrentThread(Entity entity) {
+        throw new UnsupportedOperationException("Entities are not simulated");
+    }
+    
+    @Override
+    public boolean isRegionized() {
+        return regionized;
+    }
+    
+    @Override
+    public void cancelAll() {
+        global.clear();
+        timers.clear();
+        regions.clear();
+    }
+    
+    private static final class FakeTask implements Task {
+        
+        private boolean cancelled = false;
+        
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}